@@ -0,0 +1,51 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.PricingServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the pricing service for a benchmark trial against a private in-memory H2 database.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                       SyntheticPrices dataset,
+                                                       String... extraProperties) {
+        return start(webApplicationType, dataset, context -> { }, extraProperties);
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                       SyntheticPrices dataset,
+                                                       ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+                                                       String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "server.port=0",
+                "logging.level.root=WARN"
+        ));
+        properties.addAll(List.of(extraProperties));
+
+        // Passed as command-line arguments so they take precedence over application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PricingServiceApplication.class)
+                .web(webApplicationType)
+                .initializers(initializer)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+        if (dataset != null) {
+            dataset.insertInto(context.getBean(JdbcTemplate.class));
+        }
+        return context;
+    }
+}
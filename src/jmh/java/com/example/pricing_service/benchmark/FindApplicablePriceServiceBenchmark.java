@@ -0,0 +1,129 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.application.service.FindApplicablePriceService;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of the application layer alone, with a repository stub that never leaves the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindApplicablePriceServiceBenchmark {
+
+    @Param({"1000"})
+    public int products;
+
+    @Param({"1", "4", "16"})
+    public int overlapDepth;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private FindApplicablePriceService service;
+    private PriceQuery[] queries;
+    private List<PriceQuery> batch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticPrices dataset = new SyntheticPrices(products * overlapDepth, overlapDepth);
+        service = new FindApplicablePriceService(
+                new StubPriceRepository(dataset.prices()), (key, asOf) -> List.of(), new SimpleMeterRegistry());
+        queries = dataset.randomQueries(1024, 42);
+        batch = List.of(dataset.randomQueries(batchSize, 7));
+    }
+
+    @Benchmark
+    public Price findApplicablePrice() {
+        PriceQuery query = queries[next++ & (queries.length - 1)];
+        return service.findApplicablePrice(query);
+    }
+
+    @Benchmark
+    public List<PriceLookupResult> findApplicablePrices() {
+        return service.findApplicablePrices(batch);
+    }
+
+    /**
+     * Returns candidate rows the way the JPA adapter would, without the database round trip.
+     */
+    static final class StubPriceRepository implements PriceRepository {
+
+        private final Map<PriceKey, List<Price>> pricesByKey;
+
+        StubPriceRepository(List<Price> prices) {
+            this.pricesByKey = prices.stream().collect(Collectors.groupingBy(PriceKey::of));
+        }
+
+        @Override
+        public List<Price> findByQuery(PriceQuery query) {
+            return pricesByKey.getOrDefault(query.key(), List.of()).stream()
+                    .filter(price -> price.isApplicableFor(query.applicationDate()))
+                    .toList();
+        }
+
+        @Override
+        public Optional<Price> findApplicable(PriceQuery query) {
+            return findByQuery(query).stream().max(Price.PRIORITY_ORDER);
+        }
+
+        @Override
+        public List<Price> findByQueries(Collection<PriceQuery> queries) {
+            return queries.stream()
+                    .map(PriceQuery::key)
+                    .distinct()
+                    .flatMap(key -> pricesByKey.getOrDefault(key, List.of()).stream())
+                    .toList();
+        }
+
+        @Override
+        public List<Price> findByKey(PriceKey key) {
+            return pricesByKey.getOrDefault(key, List.of());
+        }
+
+        @Override
+        public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+            return pricesByKey.getOrDefault(key, List.of()).stream()
+                    .filter(price -> !price.getStartDate().isAfter(to) && !price.getEndDate().isBefore(from))
+                    .toList();
+        }
+
+        @Override
+        public Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after) {
+            return pricesByKey.getOrDefault(PriceKey.of(winner), List.of()).stream()
+                    .filter(price -> price.getPriority() >= winner.getPriority())
+                    .map(Price::getStartDate)
+                    .filter(start -> start.isAfter(after) && !start.isAfter(winner.getEndDate()))
+                    .min(Comparator.naturalOrder());
+        }
+    }
+}
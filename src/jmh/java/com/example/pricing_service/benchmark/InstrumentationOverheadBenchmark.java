@@ -0,0 +1,83 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.application.service.FindApplicablePriceService;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pricing meters on the lookup path. {@code disabled} denies every meter, so the
+ * instrumented code records into no-op meters and serves as the uninstrumented baseline;
+ * {@code prometheus} is the registry used in production, with the percentile histograms enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({"disabled", "prometheus"})
+    public String registry;
+
+    private FindApplicablePriceService service;
+    private Timer timer;
+    private PriceQuery[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = switch (registry) {
+            case "disabled" -> {
+                SimpleMeterRegistry simple = new SimpleMeterRegistry();
+                simple.config().meterFilter(MeterFilter.deny());
+                yield simple;
+            }
+            case "prometheus" -> new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            default -> throw new IllegalArgumentException("Unknown registry " + registry);
+        };
+        SyntheticPrices dataset = new SyntheticPrices(1000, 1);
+        service = new FindApplicablePriceService(
+                new FindApplicablePriceServiceBenchmark.StubPriceRepository(dataset.prices()),
+                (key, asOf) -> List.of(),
+                meterRegistry);
+        timer = Timer.builder("pricing.controller.lookup")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        queries = dataset.randomQueries(1024, 42);
+    }
+
+    /**
+     * Service lookup with its found/not-found counter, plus the controller timer around it.
+     */
+    @Benchmark
+    public Price timedLookup() {
+        PriceQuery query = queries[next++ & (queries.length - 1)];
+        Timer.Sample sample = Timer.start();
+        try {
+            return service.findApplicablePrice(query);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+}
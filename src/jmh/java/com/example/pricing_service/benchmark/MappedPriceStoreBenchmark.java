@@ -0,0 +1,92 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.mapped.MappedPriceStore;
+import com.example.pricing_service.infrastructure.adapter.out.mapped.MappedPriceStoreWriter;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start and lookup cost of the memory-mapped price store. {@code open} maps and checksums the
+ * whole file, which is all the mapped repository does before serving; compare it with
+ * {@code buildIndex}, the work the in-memory repository does at startup on rows already read from
+ * the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedPriceStoreBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1", "4"})
+    public int overlapDepth;
+
+    private Path file;
+    private List<Price> prices;
+    private MappedPriceStore store;
+    private PriceQuery[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticPrices dataset = new SyntheticPrices(rows, overlapDepth);
+        prices = dataset.prices();
+        file = Files.createTempFile("prices", ".store");
+        try (MappedPriceStoreWriter writer = MappedPriceStoreWriter.create(file)) {
+            prices.forEach(writer::add);
+            writer.commit(Instant.now());
+        }
+        store = MappedPriceStore.open(file);
+        queries = dataset.randomQueries(1024, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Optional<Price> find() {
+        return store.find(queries[next++ & (queries.length - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MappedPriceStore open() throws IOException {
+        return MappedPriceStore.open(file);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PriceIndex buildIndex() {
+        return PriceIndex.build(prices);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.application.usecase.ExportApplicablePricesUseCase;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-brand NDJSON export, from the JDBC cursor to serialized bytes, as done by {@code GET /prices/export}.
+ * The heap is deliberately small: a catalogue that does not fit must still export. Scale it with
+ * {@code -p rows=10000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class PriceExportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"4"})
+    public int overlapDepth;
+
+    private ConfigurableApplicationContext context;
+    private ExportApplicablePricesUseCase useCase;
+    private PriceDtoMapper mapper;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // H2 keeps large results on disk rather than in memory once they exceed this many rows
+        context = BenchmarkApplication.start(WebApplicationType.NONE, new SyntheticPrices(rows, overlapDepth),
+                "spring.datasource.url=jdbc:h2:mem:bench-export;MAX_MEMORY_ROWS=10000");
+        useCase = context.getBean(ExportApplicablePricesUseCase.class);
+        mapper = context.getBean(PriceDtoMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            useCase.exportApplicablePrices(SyntheticPrices.BRAND_ID, SyntheticPrices.PROBE_DATE, price -> {
+                try {
+                    generator.writePOJO(mapper.toResponse(price));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return output.bytes;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
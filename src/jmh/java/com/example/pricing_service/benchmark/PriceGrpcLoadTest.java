@@ -0,0 +1,288 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.infrastructure.adapter.in.grpc.PriceGrpcServer;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookup;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookupResult;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Closed-loop load test of the gRPC adapter, comparing unary calls with lookups pushed over
+ * bidirectional streams.
+ * <p>
+ * In {@code unary} mode every client makes one blocking call at a time. In {@code stream} mode every
+ * client keeps one stream open and up to {@code --window} lookups in flight on it; the latency of a
+ * lookup runs from sending it to receiving its result. Without {@code --target} an in-process instance
+ * is booted; with {@code --target=host:port} the given running instance is measured as-is.
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@grpc-load-test \
+ *     -Dload.args="--concurrency=64 --window=16 --duration=30s --repository=in-memory"
+ * </pre>
+ */
+public final class PriceGrpcLoadTest {
+
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.parse("2020-06-14T00:00:00");
+
+    private PriceGrpcLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int window = Integer.parseInt(options.getOrDefault("window", "16"));
+        Duration warmup = duration(options.getOrDefault("warmup", "5s"));
+        Duration duration = duration(options.getOrDefault("duration", "20s"));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.get("target");
+        if (target == null) {
+            context = BenchmarkApplication.start(WebApplicationType.NONE, null,
+                    "pricing.grpc.enabled=true",
+                    "pricing.grpc.port=0",
+                    "pricing.repository.type=" + options.getOrDefault("repository", "jpa"));
+            target = "localhost:" + context.getBean(PriceGrpcServer.class).port();
+        }
+        ManagedChannel channel = NettyChannelBuilder.forTarget(target).usePlaintext().build();
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (String mode : options.getOrDefault("modes", "unary,stream").split(",")) {
+                System.out.printf("Running %s mode against %s with %d concurrent clients%n", mode, target, concurrency);
+                results.add(run(mode, channel, concurrency, window, warmup, duration));
+            }
+        } finally {
+            channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+            if (context != null) {
+                context.close();
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-10s %12s %10s %10s %10s %10s%n", "mode", "lookups/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(result -> System.out.printf("%-10s %12.1f %10.2f %10.2f %10.2f %10d%n",
+                result.mode, result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                result.percentileMillis(1.0), result.errors));
+
+        Path output = Path.of(options.getOrDefault("output", "target/grpc-load-test-result.json"));
+        write(output, results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static Result run(String mode, ManagedChannel channel, int concurrency, int window,
+                              Duration warmup, Duration duration) throws InterruptedException {
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        Recorder[] recorders = new Recorder[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int worker = 0; worker < concurrency; worker++) {
+            Recorder recorder = new Recorder(measureFrom, errors);
+            recorders[worker] = recorder;
+            Runnable client = mode.equals("stream")
+                    ? () -> stream(channel, window, measureUntil, recorder)
+                    : () -> unary(channel, measureUntil, recorder);
+            Thread thread = new Thread(() -> {
+                try {
+                    client.run();
+                } finally {
+                    done.countDown();
+                }
+            }, "grpc-load-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        long[] all = Arrays.stream(recorders).flatMapToLong(Recorder::latencies).sorted().toArray();
+        return new Result(mode, all, duration, errors.get());
+    }
+
+    private static void unary(ManagedChannel channel, long measureUntil, Recorder recorder) {
+        PriceServiceGrpc.PriceServiceBlockingStub stub = PriceServiceGrpc.newBlockingStub(channel);
+        long sent;
+        for (int i = 0; (sent = System.nanoTime()) < measureUntil; i++) {
+            try {
+                stub.getApplicablePrice(lookup(i));
+                recorder.record(sent, System.nanoTime());
+            } catch (StatusRuntimeException e) {
+                recorder.error(sent);
+            }
+        }
+    }
+
+    /**
+     * Sends lookups while fewer than {@code window} are unanswered. Results come back in the order the
+     * lookups were sent, so the send times queue up and the oldest one belongs to the next result.
+     */
+    private static void stream(ManagedChannel channel, int window, long measureUntil, Recorder recorder) {
+        Semaphore inFlight = new Semaphore(window);
+        Queue<Long> sendTimes = new ArrayDeque<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        StreamObserver<PriceLookup> lookups = PriceServiceGrpc.newStub(channel).streamApplicablePrices(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(PriceLookupResult result) {
+                        long sent;
+                        synchronized (sendTimes) {
+                            sent = sendTimes.remove();
+                        }
+                        if (result.hasPrice()) {
+                            recorder.record(sent, System.nanoTime());
+                        } else {
+                            recorder.error(sent);
+                        }
+                        inFlight.release();
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        recorder.error(System.nanoTime());
+                        inFlight.release(window);
+                        closed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        closed.countDown();
+                    }
+                });
+        try {
+            for (int i = 0; closed.getCount() > 0; i++) {
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                if (sent >= measureUntil) {
+                    break;
+                }
+                synchronized (sendTimes) {
+                    sendTimes.add(sent);
+                }
+                lookups.onNext(lookup(i));
+            }
+            lookups.onCompleted();
+            closed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Spreads the lookups over the seed prices of product 35455, brand 1, so every one of them finds one.
+     */
+    private static PriceLookup lookup(int i) {
+        return PriceLookup.newBuilder()
+                .setApplicationDate(FIRST_DATE.plusHours(i % 4_000).toEpochSecond(ZoneOffset.UTC))
+                .setProductId(35455L)
+                .setBrandId(1L)
+                .build();
+    }
+
+    private static void write(Path output, List<Result> results) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append(String.format(Locale.ROOT,
+                    "  {\"mode\": \"%s\", \"lookups\": %d, \"throughput\": %.1f, \"p50Ms\": %.3f, " +
+                            "\"p99Ms\": %.3f, \"maxMs\": %.3f, \"errors\": %d}%s%n",
+                    result.mode, result.latencies.length, result.throughput(), result.percentileMillis(0.50),
+                    result.percentileMillis(0.99), result.percentileMillis(1.0), result.errors,
+                    i < results.size() - 1 ? "," : ""));
+        }
+        json.append("]\n");
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    private static Duration duration(String value) {
+        return value.endsWith("ms")
+                ? Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)))
+                : Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+
+    /**
+     * Latencies of one client's lookups sent after the warm-up. Written by the thread delivering the
+     * results, read once the client is done.
+     */
+    private static final class Recorder {
+
+        private final long measureFrom;
+        private final AtomicLong errors;
+        private long[] samples = new long[1024];
+        private int count;
+
+        Recorder(long measureFrom, AtomicLong errors) {
+            this.measureFrom = measureFrom;
+            this.errors = errors;
+        }
+
+        synchronized void record(long sent, long received) {
+            if (sent < measureFrom) {
+                return;
+            }
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = received - sent;
+        }
+
+        void error(long sent) {
+            if (sent >= measureFrom) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized LongStream latencies() {
+            return Arrays.stream(samples, 0, count);
+        }
+    }
+
+    private record Result(String mode, long[] latencies, Duration duration, long errors) {
+
+        double throughput() {
+            return latencies.length / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
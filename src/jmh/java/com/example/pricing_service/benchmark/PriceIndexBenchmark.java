@@ -0,0 +1,72 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup, single-row update and full build cost of the compiled in-memory index. Run with {@code -prof gc} to see the
+ * allocation rate: once a row has been served, a lookup should not allocate beyond the query key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceIndexBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1", "4"})
+    public int overlapDepth;
+
+    private List<Price> prices;
+    private PriceIndex index;
+    private PriceQuery[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticPrices dataset = new SyntheticPrices(rows, overlapDepth);
+        prices = dataset.prices();
+        index = PriceIndex.build(prices);
+        queries = dataset.randomQueries(1024, 42);
+    }
+
+    @Benchmark
+    public Optional<Price> find() {
+        return index.find(queries[next++ & (queries.length - 1)]);
+    }
+
+    /**
+     * Re-applies an existing row, which recompiles only its product/brand timeline.
+     */
+    @Benchmark
+    public void upsert() {
+        index.upsert(prices.get(next++ % prices.size()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PriceIndex build() {
+        return PriceIndex.build(prices);
+    }
+}
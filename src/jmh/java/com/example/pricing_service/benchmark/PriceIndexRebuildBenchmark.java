@@ -0,0 +1,64 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full rebuild of the in-memory index on a fork-join pool of {@code parallelism} workers. The speedup at
+ * {@code p} workers is the score at 1 divided by the score at {@code p}; it only means something up to the
+ * number of physical cores of the machine. Rows are shuffled, as a database returns them in no useful
+ * order for the partitioning. The catalogue-sized run needs a larger heap:
+ * {@code -p rows=10000000 -jvmArgsAppend -Xmx16g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PriceIndexRebuildBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    private List<Price> prices;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        prices = new SyntheticPrices(rows, 4).prices();
+        Collections.shuffle(prices, new Random(42));
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public PriceIndex rebuild() {
+        return PriceIndex.build(prices, pool);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of the JPA adapter against H2. Scale the dataset with
+ * {@code -p rows=10000000 -p overlapDepth=1,4,16}; larger datasets need a bigger heap ({@code -jvmArgs -Xmx8g}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PriceJpaAdapterBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"1", "4", "16"})
+    public int overlapDepth;
+
+    private ConfigurableApplicationContext context;
+    private PriceJpaAdapter adapter;
+    private PriceQuery[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticPrices dataset = new SyntheticPrices(rows, overlapDepth);
+        context = BenchmarkApplication.start(WebApplicationType.NONE, dataset);
+        adapter = context.getBean(PriceJpaAdapter.class);
+        queries = dataset.randomQueries(4096, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Price> findByQuery() {
+        return adapter.findByQuery(nextQuery());
+    }
+
+    @Benchmark
+    public Optional<Price> findApplicable() {
+        return adapter.findApplicable(nextQuery());
+    }
+
+    private PriceQuery nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+}
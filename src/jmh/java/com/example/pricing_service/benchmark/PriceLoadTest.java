@@ -0,0 +1,232 @@
+package com.example.pricing_service.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing the platform-thread and virtual-thread execution modes.
+ * <p>
+ * Without {@code --url} every mode boots its own in-process instance. {@code --db-latency} then holds
+ * each JDBC connection for the given time to emulate a slow database, which is where the two modes
+ * differ. With {@code --url} the given running instance is measured as-is.
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@load-test \
+ *     -Dload.args="--concurrency=2000 --duration=30s --db-latency=20ms --pool-size=32"
+ * </pre>
+ * The virtual mode is skipped on runtimes older than Java 21.
+ */
+public final class PriceLoadTest {
+
+    private static final String PATH = "/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1";
+
+    private PriceLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        Duration warmup = duration(options.getOrDefault("warmup", "5s"));
+        Duration duration = duration(options.getOrDefault("duration", "20s"));
+        Duration dbLatency = duration(options.getOrDefault("db-latency", "0ms"));
+        String poolSize = options.getOrDefault("pool-size", "32");
+
+        List<Result> results = new ArrayList<>();
+        if (options.containsKey("url")) {
+            results.add(run("external", options.get("url"), concurrency, warmup, duration));
+        } else {
+            for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+                if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                    System.out.println("Skipping virtual mode: requires Java 21+, running on " + Runtime.version());
+                    continue;
+                }
+                try (ConfigurableApplicationContext context = startInstance(mode, dbLatency, poolSize)) {
+                    String port = context.getEnvironment().getProperty("local.server.port");
+                    results.add(run(mode, "http://localhost:" + port, concurrency, warmup, duration));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-10s %12s %10s %10s %10s %10s %10s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "max ms", "rejected", "errors");
+        results.forEach(result -> System.out.printf("%-10s %12.1f %10.2f %10.2f %10.2f %10d %10d%n",
+                result.mode, result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                result.percentileMillis(1.0), result.rejected, result.errors));
+
+        Path output = Path.of(options.getOrDefault("output", "target/load-test-result.json"));
+        write(output, results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext startInstance(String mode, Duration dbLatency, String poolSize) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize
+        ));
+        if (mode.equals("virtual")) {
+            properties.add("spring.profiles.active=virtual-threads");
+        }
+        return BenchmarkApplication.start(WebApplicationType.SERVLET, null,
+                context -> context.getBeanFactory().addBeanPostProcessor(new SlowDatabase(dbLatency)),
+                properties.toArray(String[]::new));
+    }
+
+    private static Result run(String mode, String baseUrl, int concurrency, Duration warmup, Duration duration)
+            throws InterruptedException {
+
+        System.out.printf("Running %s mode against %s with %d concurrent clients%n", mode, baseUrl, concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATH)).GET().build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int worker = 0; worker < concurrency; worker++) {
+            int index = worker;
+            Thread thread = new Thread(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil) {
+                        int status = send(client, request);
+                        long elapsed = System.nanoTime() - now;
+                        if (now < measureFrom) {
+                            continue;
+                        }
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status != 200) {
+                            errors.incrementAndGet();
+                        } else {
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = elapsed;
+                        }
+                    }
+                } finally {
+                    latencies[index] = Arrays.copyOf(samples, count);
+                    done.countDown();
+                }
+            }, "load-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(mode, all, duration, rejected.get(), errors.get());
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static void write(Path output, List<Result> results) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append(String.format(Locale.ROOT,
+                    "  {\"mode\": \"%s\", \"requests\": %d, \"throughput\": %.1f, \"p50Ms\": %.3f, " +
+                            "\"p99Ms\": %.3f, \"maxMs\": %.3f, \"rejected\": %d, \"errors\": %d}%s%n",
+                    result.mode, result.latencies.length, result.throughput(), result.percentileMillis(0.50),
+                    result.percentileMillis(0.99), result.percentileMillis(1.0), result.rejected, result.errors,
+                    i < results.size() - 1 ? "," : ""));
+        }
+        json.append("]\n");
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    private static Duration duration(String value) {
+        return value.endsWith("ms")
+                ? Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)))
+                : Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+    }
+
+    private record Result(String mode, long[] latencies, Duration duration, long rejected, long errors) {
+
+        double throughput() {
+            return latencies.length / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    /**
+     * Holds every connection handed out by the pool for a fixed time, like a database under load would.
+     */
+    private record SlowDatabase(Duration latency) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || latency.isZero()) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(latency.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapperImpl;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.mapper.PriceEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct mappers between the persistence, domain and REST representations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceMapperBenchmark {
+
+    @Param({"1", "16"})
+    public int candidates;
+
+    private final PriceEntityMapper entityMapper = new PriceEntityMapperImpl();
+    private final PriceDtoMapper dtoMapper = new PriceDtoMapperImpl();
+
+    private PriceEntity entity;
+    private List<PriceEntity> entities;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        List<Price> prices = new SyntheticPrices(candidates, candidates).prices();
+        entities = prices.stream().map(PriceMapperBenchmark::toEntity).toList();
+        entity = entities.get(0);
+        price = prices.get(0);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public List<Price> entitiesToDomain() {
+        return entityMapper.toDomainList(entities);
+    }
+
+    @Benchmark
+    public PriceResponse domainToResponse() {
+        return dtoMapper.toResponse(price);
+    }
+
+    private static PriceEntity toEntity(Price price) {
+        return PriceEntity.builder()
+                .id(price.getId())
+                .brandId(price.getBrandId())
+                .productId(price.getProductId())
+                .priceList(price.getPriceList())
+                .priority(price.getPriority())
+                .startDate(price.getStartDate())
+                .endDate(price.getEndDate())
+                .price(price.getFinalPrice())
+                .currency(price.getCurrency())
+                .build();
+    }
+}
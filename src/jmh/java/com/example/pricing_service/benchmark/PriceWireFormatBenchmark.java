@@ -0,0 +1,90 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infrastructure.adapter.in.rest.codec.PriceBinaryCodec;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of price responses as JSON, with an object mapper configured like Spring Boot's
+ * (ISO date strings), against the {@link PriceBinaryCodec} format. Payload sizes are printed once
+ * per fork, before the measurements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceWireFormatBenchmark {
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+    private PriceResponse price;
+    private PriceBatchResponse batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        PriceDtoMapper mapper = new PriceDtoMapperImpl();
+        List<Price> prices = new SyntheticPrices(batchSize, 1).prices();
+        price = mapper.toResponse(prices.get(0));
+        batch = new PriceBatchResponse(prices.stream()
+                .map(each -> new PriceBatchResponse.Result(
+                        SyntheticPrices.PROBE_DATE, each.getProductId(), each.getBrandId(),
+                        PriceBatchResponse.Status.FOUND, mapper.toResponse(each), null))
+                .toList());
+
+        System.out.printf("%nPayload bytes: price json=%d binary=%d, batch of %d json=%d binary=%d%n",
+                json(price).length, priceBinary().length, batchSize, json(batch).length, batchBinary().length);
+    }
+
+    @Benchmark
+    public byte[] priceJson() throws IOException {
+        return json(price);
+    }
+
+    @Benchmark
+    public byte[] priceBinary() {
+        return PriceBinaryCodec.encode(price);
+    }
+
+    @Benchmark
+    public byte[] batchJson() throws IOException {
+        return json(batch);
+    }
+
+    @Benchmark
+    public byte[] batchBinary() {
+        return PriceBinaryCodec.encode(batch);
+    }
+
+    private byte[] json(Object body) throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, body);
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.pricing_service.benchmark;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic price dataset shared by the benchmarks.
+ * <p>
+ * Every product gets {@code overlapDepth} nested price lists, so {@code overlapDepth} rows apply at
+ * {@link #PROBE_DATE} and a lookup has to resolve that many candidates.
+ */
+public final class SyntheticPrices {
+
+    public static final long BRAND_ID = 7L;
+    public static final long FIRST_PRODUCT_ID = 1_000_000L;
+    public static final LocalDateTime ORIGIN = LocalDateTime.of(2030, 1, 1, 0, 0);
+    public static final LocalDateTime PROBE_DATE = ORIGIN.plusDays(365);
+
+    private static final int INSERT_CHUNK = 10_000;
+    private static final String INSERT_SQL =
+            "INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final int products;
+    private final int overlapDepth;
+
+    public SyntheticPrices(int rows, int overlapDepth) {
+        this.overlapDepth = Math.max(1, overlapDepth);
+        this.products = Math.max(1, rows / this.overlapDepth);
+    }
+
+    public int products() {
+        return products;
+    }
+
+    public int rows() {
+        return products * overlapDepth;
+    }
+
+    public List<Price> prices() {
+        List<Price> prices = new ArrayList<>(rows());
+        long id = 1;
+        for (int product = 0; product < products; product++) {
+            for (int list = 0; list < overlapDepth; list++) {
+                prices.add(Price.builder()
+                        .id(id++)
+                        .brandId(BRAND_ID)
+                        .productId(FIRST_PRODUCT_ID + product)
+                        .priceList((long) list + 1)
+                        .priority(list % 3)
+                        .startDate(startDate(list))
+                        .endDate(endDate(list))
+                        .finalPrice(amount(product, list))
+                        .currency("EUR")
+                        .build());
+            }
+        }
+        return prices;
+    }
+
+    public void insertInto(JdbcTemplate jdbcTemplate) {
+        List<Object[]> chunk = new ArrayList<>(INSERT_CHUNK);
+        for (int product = 0; product < products; product++) {
+            for (int list = 0; list < overlapDepth; list++) {
+                chunk.add(new Object[]{
+                        BRAND_ID,
+                        Timestamp.valueOf(startDate(list)),
+                        Timestamp.valueOf(endDate(list)),
+                        (long) list + 1,
+                        FIRST_PRODUCT_ID + product,
+                        list % 3,
+                        amount(product, list),
+                        "EUR"
+                });
+                if (chunk.size() == INSERT_CHUNK) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk);
+        }
+    }
+
+    /**
+     * Returns {@code count} queries for random products of the dataset at {@link #PROBE_DATE}.
+     */
+    public PriceQuery[] randomQueries(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        PriceQuery[] queries = new PriceQuery[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = PriceQuery.builder()
+                    .applicationDate(PROBE_DATE.plusMinutes(random.nextInt(24 * 60)))
+                    .productId(FIRST_PRODUCT_ID + random.nextInt(products))
+                    .brandId(BRAND_ID)
+                    .build();
+        }
+        return queries;
+    }
+
+    private static LocalDateTime startDate(int list) {
+        return ORIGIN.plusDays(list * 7L);
+    }
+
+    private static LocalDateTime endDate(int list) {
+        return ORIGIN.plusDays(730 - list * 7L).minusSeconds(1);
+    }
+
+    private static BigDecimal amount(int product, int list) {
+        return BigDecimal.valueOf(1_000 + (product % 9_000) + list * 10L, 2);
+    }
+}
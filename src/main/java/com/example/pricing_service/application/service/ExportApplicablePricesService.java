@@ -0,0 +1,49 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.application.usecase.ExportApplicablePricesUseCase;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ExportApplicablePricesService implements ExportApplicablePricesUseCase {
+
+    private final PriceCatalogReader catalogReader;
+
+    @Override
+    public long exportApplicablePrices(Long brandId, LocalDateTime instant, Consumer<Price> sink) {
+        FirstPerProduct winners = new FirstPerProduct(sink);
+        catalogReader.forEachApplicable(brandId, instant, winners);
+        return winners.emitted;
+    }
+
+    /**
+     * Forwards the first row of each product, which the reader guarantees to be its winner, and
+     * drops the rest. Keeps only the current product id, whatever the catalogue size.
+     */
+    private static final class FirstPerProduct implements Consumer<Price> {
+
+        private final Consumer<Price> sink;
+        private Long currentProductId;
+        private long emitted;
+
+        FirstPerProduct(Consumer<Price> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void accept(Price price) {
+            if (!Objects.equals(price.getProductId(), currentProductId)) {
+                currentProductId = price.getProductId();
+                sink.accept(price);
+                emitted++;
+            }
+        }
+    }
+}
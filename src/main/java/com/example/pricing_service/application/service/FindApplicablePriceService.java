@@ -1,30 +1,123 @@
 package com.example.pricing_service.application.service;
 
 import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceLookupResult;
 import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceTimeline;
 import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.port.out.PriceHistoryRepository;
 import com.example.pricing_service.domain.port.out.PriceRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Resolves current lookups from the {@link PriceRepository}. Queries carrying an {@code asOf} are
+ * resolved from the rows the {@link PriceHistoryRepository} held at that transaction time instead,
+ * with the same priority rules; current lookups never reach the history.
+ */
 @Service
-@RequiredArgsConstructor
 public class FindApplicablePriceService implements FindApplicablePriceUseCase {
 
     private final PriceRepository priceRepository;
+    private final PriceHistoryRepository priceHistory;
+    private final Counter found;
+    private final Counter notFound;
+    private final DistributionSummary candidateCount;
+
+    public FindApplicablePriceService(PriceRepository priceRepository,
+                                      PriceHistoryRepository priceHistory,
+                                      MeterRegistry meterRegistry) {
+        this.priceRepository = priceRepository;
+        this.priceHistory = priceHistory;
+        this.found = lookups(meterRegistry, "found");
+        this.notFound = lookups(meterRegistry, "not_found");
+        this.candidateCount = DistributionSummary.builder("pricing.lookup.candidates")
+                .description("Applicable rows competing for a batch lookup item")
+                .register(meterRegistry);
+    }
 
     @Override
     public Price findApplicablePrice(PriceQuery query) {
-        return priceRepository.findByQuery(query)
+        Price price = query.isHistorical()
+                ? historicalTimeline(query).priceAt(query.applicationDate()).orElse(null)
+                : priceRepository.findApplicable(query).orElse(null);
+        return count(query, price);
+    }
+
+    @Override
+    public ApplicablePrice findApplicablePriceWithValidity(PriceQuery query) {
+        if (query.isHistorical()) {
+            PriceTimeline timeline = historicalTimeline(query);
+            Price price = count(query, timeline.priceAt(query.applicationDate()).orElse(null));
+            LocalDateTime validUntil = timeline.nextBoundaryAfter(query.applicationDate())
+                    .map(boundary -> boundary.minusSeconds(1))
+                    .orElse(price.getEndDate());
+            return new ApplicablePrice(price, validUntil);
+        }
+        Price price = findApplicablePrice(query);
+        LocalDateTime validUntil = priceRepository.findNextOutrankingStart(price, query.applicationDate())
+                .map(start -> start.minusSeconds(1))
+                .orElse(price.getEndDate());
+        return new ApplicablePrice(price, validUntil);
+    }
+
+    @Override
+    public List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+        boolean anyHistorical = queries.stream().anyMatch(PriceQuery::isHistorical);
+        List<PriceQuery> current = anyHistorical
+                ? queries.stream().filter(query -> !query.isHistorical()).toList()
+                : queries;
+        Map<PriceKey, List<Price>> candidates = current.isEmpty() ? Map.of() : priceRepository.findByQueries(current)
                 .stream()
-                .max(Comparator
-                        .comparing(Price::getPriority)
-                        .thenComparing(Price::getStartDate))
-                .orElseThrow(() -> PriceNotFoundException.forQuery(query.productId(), query.brandId()));
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        return queries.stream()
+                .map(query -> resolve(query, query.isHistorical()
+                        ? priceHistory.findAsOf(query.key(), query.asOf())
+                        : candidates.getOrDefault(query.key(), List.of())))
+                .toList();
+    }
+
+    private PriceTimeline historicalTimeline(PriceQuery query) {
+        return PriceTimeline.compile(priceHistory.findAsOf(query.key(), query.asOf()));
+    }
+
+    private Price count(PriceQuery query, Price price) {
+        if (price == null) {
+            notFound.increment();
+            throw PriceNotFoundException.forQuery(query.productId(), query.brandId());
+        }
+        found.increment();
+        return price;
+    }
+
+    private PriceLookupResult resolve(PriceQuery query, List<Price> candidates) {
+        List<Price> applicable = candidates.stream()
+                .filter(price -> price.isApplicableFor(query.applicationDate()))
+                .toList();
+        candidateCount.record(applicable.size());
+        Price price = applicable.stream().max(Price.PRIORITY_ORDER).orElse(null);
+        (price == null ? notFound : found).increment();
+        return new PriceLookupResult(query, price);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("pricing.lookups")
+                .description("Price lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,34 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.application.usecase.FindPriceSegmentsUseCase;
+import com.example.pricing_service.domain.exception.InvalidDateRangeException;
+import com.example.pricing_service.domain.model.PriceRangeQuery;
+import com.example.pricing_service.domain.model.PriceSegment;
+import com.example.pricing_service.domain.model.PriceTimeline;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.stream.Stream;
+
+/**
+ * Resolves a date window with one repository query and a single sweep over the returned rows,
+ * instead of one point lookup per instant of the window.
+ */
+@Service
+@RequiredArgsConstructor
+public class FindPriceSegmentsService implements FindPriceSegmentsUseCase {
+
+    private final PriceRepository priceRepository;
+
+    @Override
+    public Stream<PriceSegment> findPriceSegments(PriceRangeQuery query) {
+        if (query.from().isAfter(query.to())) {
+            throw new InvalidDateRangeException(String.format(
+                    "'from' (%s) must not be after 'to' (%s)", query.from(), query.to()));
+        }
+        PriceTimeline timeline = PriceTimeline.compile(
+                priceRepository.findOverlapping(query.key(), query.from(), query.to()));
+        return timeline.segmentsBetween(query.from(), query.to());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceImportReport;
+import com.example.pricing_service.domain.port.out.PriceWriter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ImportPricesService implements ImportPricesUseCase {
+
+    static final int MAX_REPORTED_REJECTIONS = 100;
+
+    // precision 10, scale 2 in the prices table
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private final PriceWriter priceWriter;
+    private final int chunkSize;
+
+    @Override
+    public PriceImportReport importPrices(Stream<PriceFeedLine> feed) {
+        long started = System.nanoTime();
+        long imported = 0;
+        long rejected = 0;
+        List<PriceImportReport.Rejection> rejections = new ArrayList<>();
+        List<Price> chunk = new ArrayList<>(chunkSize);
+
+        Iterator<PriceFeedLine> lines = feed.iterator();
+        while (lines.hasNext()) {
+            PriceFeedLine line = lines.next();
+            String error = line.isAccepted() ? validate(line.price()) : line.error();
+            if (error != null) {
+                rejected++;
+                if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new PriceImportReport.Rejection(line.lineNumber(), error));
+                }
+                continue;
+            }
+            chunk.add(line.price());
+            if (chunk.size() == chunkSize) {
+                priceWriter.saveAll(chunk);
+                imported += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            priceWriter.saveAll(chunk);
+            imported += chunk.size();
+        }
+
+        return new PriceImportReport(imported, rejected, List.copyOf(rejections),
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private static String validate(Price price) {
+        if (price.getEndDate().isBefore(price.getStartDate())) {
+            return "endDate is before startDate";
+        }
+        if (price.getStartDate().getNano() != 0 || price.getEndDate().getNano() != 0) {
+            return "startDate and endDate must be whole seconds";
+        }
+        if (price.getFinalPrice().signum() < 0) {
+            return "price must not be negative";
+        }
+        if (price.getFinalPrice().stripTrailingZeros().scale() > 2) {
+            return "price must have at most 2 decimals";
+        }
+        if (price.getFinalPrice().compareTo(MAX_PRICE) > 0) {
+            return "price must be lower than " + MAX_PRICE.toPlainString();
+        }
+        if (price.getCurrency().length() != 3) {
+            return "currency must be a 3-letter code";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.application.usecase.ReactiveFindApplicablePriceUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.ReactivePriceRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveFindApplicablePriceService implements ReactiveFindApplicablePriceUseCase {
+
+    private final ReactivePriceRepository priceRepository;
+
+    @Override
+    public Mono<Price> findApplicablePrice(PriceQuery query) {
+        return priceRepository.findApplicable(query)
+                .switchIfEmpty(Mono.error(() -> PriceNotFoundException.forQuery(query.productId(), query.brandId())));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.pricing_service.application.usecase;
+
+import com.example.pricing_service.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ExportApplicablePricesUseCase {
+
+    /**
+     * Emits, for every product of the brand, the price that applies at {@code instant}, in product
+     * order. Products without an applicable price are skipped.
+     *
+     * @return the number of prices emitted
+     */
+    long exportApplicablePrices(Long brandId, LocalDateTime instant, Consumer<Price> sink);
+}
@@ -1,10 +1,24 @@
 package com.example.pricing_service.application.usecase;
 
+import com.example.pricing_service.domain.model.ApplicablePrice;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookupResult;
 import com.example.pricing_service.domain.model.PriceQuery;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface FindApplicablePriceUseCase {
     Price findApplicablePrice(PriceQuery query);
+
+    /**
+     * Like {@link #findApplicablePrice(PriceQuery)}, also resolving how long the price keeps applying
+     * after the query's application date.
+     */
+    ApplicablePrice findApplicablePriceWithValidity(PriceQuery query);
+
+    /**
+     * Resolves every query independently; queries without an applicable price are reported in the
+     * result instead of failing the whole batch. Results keep the order of the given queries.
+     */
+    List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries);
 }
\ No newline at end of file
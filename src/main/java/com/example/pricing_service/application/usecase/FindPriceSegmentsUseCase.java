@@ -0,0 +1,16 @@
+package com.example.pricing_service.application.usecase;
+
+import com.example.pricing_service.domain.model.PriceRangeQuery;
+import com.example.pricing_service.domain.model.PriceSegment;
+
+import java.util.stream.Stream;
+
+public interface FindPriceSegmentsUseCase {
+
+    /**
+     * Returns the effective price segments of a product/brand within the query window, in time order.
+     * Periods without an applicable price are left out. Prices are fetched before this method
+     * returns; the segments themselves are produced lazily as the stream is consumed.
+     */
+    Stream<PriceSegment> findPriceSegments(PriceRangeQuery query);
+}
@@ -0,0 +1,15 @@
+package com.example.pricing_service.application.usecase;
+
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceImportReport;
+
+import java.util.stream.Stream;
+
+public interface ImportPricesUseCase {
+
+    /**
+     * Stores every accepted line of the feed and reports the rejected ones. The stream is consumed
+     * once and only a chunk of prices is held in memory at a time.
+     */
+    PriceImportReport importPrices(Stream<PriceFeedLine> feed);
+}
@@ -0,0 +1,13 @@
+package com.example.pricing_service.application.usecase;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link FindApplicablePriceUseCase}. The returned {@link Mono} fails with
+ * {@link com.example.pricing_service.domain.exception.PriceNotFoundException} when no price applies.
+ */
+public interface ReactiveFindApplicablePriceUseCase {
+    Mono<Price> findApplicablePrice(PriceQuery query);
+}
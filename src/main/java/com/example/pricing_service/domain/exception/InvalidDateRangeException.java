@@ -0,0 +1,8 @@
+package com.example.pricing_service.domain.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -7,8 +7,10 @@ public class PriceNotFoundException extends RuntimeException {
     }
 
     public static PriceNotFoundException forQuery(Long productId, Long brandId) {
-        return new PriceNotFoundException(
-                String.format("No applicable price found for productId=%d and brandId=%d", productId, brandId)
-        );
+        return new PriceNotFoundException(messageFor(productId, brandId));
+    }
+
+    public static String messageFor(Long productId, Long brandId) {
+        return String.format("No applicable price found for productId=%d and brandId=%d", productId, brandId);
     }
 }
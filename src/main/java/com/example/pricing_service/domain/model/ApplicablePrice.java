@@ -0,0 +1,10 @@
+package com.example.pricing_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Price applicable to a query, with the last instant (inclusive, at second resolution) it keeps
+ * applying from the query's application date on: its end date, or the moment an outranking price starts.
+ */
+public record ApplicablePrice(Price price, LocalDateTime validUntil) {
+}
@@ -6,20 +6,30 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 @Getter
 @Builder
 @AllArgsConstructor
 public class Price {
-    private Long id;
-    private Long brandId;
-    private LocalDateTime startDate;
-    private LocalDateTime endDate;
-    private Long priceList;
-    private Long productId;
-    private Integer priority;
-    private BigDecimal finalPrice;
-    private String currency;
+
+    /**
+     * Order in which overlapping prices compete: highest priority first, then the most recent start date.
+     */
+    public static final Comparator<Price> PRIORITY_ORDER = Comparator
+            .comparing(Price::getPriority)
+            .thenComparing(Price::getStartDate);
+
+    private final Long id;
+    private final Long brandId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Long priceList;
+    private final Long productId;
+    private final Integer priority;
+    private final BigDecimal finalPrice;
+    private final String currency;
+    private final Long version;
 
     public boolean isApplicableFor(LocalDateTime applicationDate) {
         return !applicationDate.isBefore(startDate)
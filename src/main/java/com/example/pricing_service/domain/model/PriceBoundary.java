@@ -0,0 +1,10 @@
+package com.example.pricing_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A moment at which a price of a product/brand starts applying, or stops applying: its start date,
+ * or the second after its end date. The applicable price of the product/brand may change there.
+ */
+public record PriceBoundary(PriceKey key, LocalDateTime at) {
+}
@@ -0,0 +1,19 @@
+package com.example.pricing_service.domain.model;
+
+/**
+ * One line of a bulk price feed: either a parsed price or the reason it could not be parsed.
+ */
+public record PriceFeedLine(long lineNumber, Price price, String error) {
+
+    public static PriceFeedLine accepted(long lineNumber, Price price) {
+        return new PriceFeedLine(lineNumber, price, null);
+    }
+
+    public static PriceFeedLine rejected(long lineNumber, String error) {
+        return new PriceFeedLine(lineNumber, null, error);
+    }
+
+    public boolean isAccepted() {
+        return price != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.pricing_service.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejections are kept, so a bad feed cannot exhaust memory.
+ */
+public record PriceImportReport(long imported, long rejected, List<Rejection> rejections, Duration elapsed) {
+
+    public long rowsPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return Math.round(imported * 1_000_000_000d / nanos);
+    }
+
+    public record Rejection(long lineNumber, String reason) {
+    }
+}
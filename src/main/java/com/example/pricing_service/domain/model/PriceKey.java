@@ -0,0 +1,11 @@
+package com.example.pricing_service.domain.model;
+
+/**
+ * Identifies the set of price rows that compete with each other: one product of one brand.
+ */
+public record PriceKey(Long brandId, Long productId) {
+
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.getBrandId(), price.getProductId());
+    }
+}
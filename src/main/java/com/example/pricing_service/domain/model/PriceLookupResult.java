@@ -0,0 +1,11 @@
+package com.example.pricing_service.domain.model;
+
+/**
+ * Outcome of resolving one query of a batch: the applicable price, or {@code null} when none applies.
+ */
+public record PriceLookupResult(PriceQuery query, Price price) {
+
+    public boolean isFound() {
+        return price != null;
+    }
+}
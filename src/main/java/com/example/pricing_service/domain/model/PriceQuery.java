@@ -4,6 +4,18 @@ import lombok.Builder;
 
 import java.time.LocalDateTime;
 
+/**
+ * @param asOf transaction time the query is answered at: prices are resolved from the rows as they
+ *             were recorded at that moment. {@code null} answers from the current rows.
+ */
 @Builder
-public record PriceQuery(LocalDateTime applicationDate, Long productId, Long brandId) {
-}
\ No newline at end of file
+public record PriceQuery(LocalDateTime applicationDate, Long productId, Long brandId, LocalDateTime asOf) {
+
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+
+    public boolean isHistorical() {
+        return asOf != null;
+    }
+}
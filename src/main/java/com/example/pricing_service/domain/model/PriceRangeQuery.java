@@ -0,0 +1,16 @@
+package com.example.pricing_service.domain.model;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Effective prices of one product/brand over the inclusive window {@code [from, to]}.
+ */
+@Builder
+public record PriceRangeQuery(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.pricing_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Period during which a single price is the applicable one. Both bounds are inclusive.
+ */
+public record PriceSegment(LocalDateTime startDate, LocalDateTime endDate, Price price) {
+}
@@ -0,0 +1,291 @@
+package com.example.pricing_service.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.example.pricing_service.domain.model.PriceUnits.*;
+
+/**
+ * Effective prices of a single product/brand flattened into disjoint time segments.
+ * <p>
+ * Segment {@code i} covers {@code [boundaries[i], boundaries[i + 1])} and is won by row
+ * {@code segmentRows[i]}, or by no row when it is {@code -1}. The last segment is open-ended.
+ * Overlapping rows are resolved once, at compile time, with {@link Price#PRIORITY_ORDER}, so a lookup
+ * is a single binary search.
+ * <p>
+ * Rows are held in parallel primitive arrays: dates and amounts in their {@link PriceUnits} form and
+ * interned currency codes. A timeline costs a handful of arrays rather than a {@link BigDecimal} and
+ * two {@link LocalDateTime}s per row.
+ * A {@link Price} is only built for a row the first time a lookup returns it, and is reused afterwards.
+ * <p>
+ * A row whose end date is before its start date never applies, so it is left out when the timeline
+ * is compiled and counted in {@link #skippedRowCount()}. Row dates are expected to be whole seconds, as
+ * the import requires; application dates may carry a fraction.
+ */
+public final class PriceTimeline {
+
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final int NO_ROW = -1;
+
+    private final Long brandId;
+    private final Long productId;
+
+    private final long[] ids;
+    private final long[] priceLists;
+    private final long[] startSeconds;
+    private final long[] endSeconds;
+    private final int[] priorities;
+    private final long[] amounts;
+    private final String[] currencies;
+    private final long[] versions;
+    private final Price[] materialized;
+
+    private final long[] boundaries;
+    private final int[] segmentRows;
+    private final int skippedRowCount;
+
+    private PriceTimeline(Collection<Price> candidates) {
+        List<Price> rows = candidates.stream()
+                .filter(price -> !price.getEndDate().isBefore(price.getStartDate()))
+                .toList();
+        this.skippedRowCount = candidates.size() - rows.size();
+        int size = rows.size();
+        Price first = rows.isEmpty() ? null : rows.iterator().next();
+        this.brandId = first == null ? null : first.getBrandId();
+        this.productId = first == null ? null : first.getProductId();
+        this.ids = new long[size];
+        this.priceLists = new long[size];
+        this.startSeconds = new long[size];
+        this.endSeconds = new long[size];
+        this.priorities = new int[size];
+        this.amounts = new long[size];
+        this.currencies = new String[size];
+        this.versions = new long[size];
+        this.materialized = new Price[size];
+
+        int row = 0;
+        for (Price price : rows) {
+            ids[row] = price.getId() == null ? NO_ID : price.getId();
+            priceLists[row] = price.getPriceList();
+            startSeconds[row] = toEpochSecond(price.getStartDate());
+            endSeconds[row] = toEpochSecond(price.getEndDate());
+            priorities[row] = price.getPriority();
+            amounts[row] = toHundredths(price.getFinalPrice());
+            currencies[row] = price.getCurrency().intern();
+            versions[row] = price.getVersion() == null ? NO_VERSION : price.getVersion();
+            row++;
+        }
+
+        long[][] segments = sweep();
+        this.boundaries = segments[0];
+        this.segmentRows = Arrays.stream(segments[1]).mapToInt(Math::toIntExact).toArray();
+    }
+
+    /**
+     * Compiles the rows of one product/brand into a timeline.
+     */
+    public static PriceTimeline compile(Collection<Price> rows) {
+        return new PriceTimeline(rows);
+    }
+
+    /**
+     * Returns a timeline with the given row added, or replacing the row with the same id. Only the
+     * rows of this product/brand are recompiled.
+     */
+    public PriceTimeline with(Price price) {
+        List<Price> rows = new ArrayList<>(rowCount() + 1);
+        for (int row = 0; row < rowCount(); row++) {
+            if (price.getId() == null || ids[row] != price.getId()) {
+                rows.add(materialize(row));
+            }
+        }
+        rows.add(price);
+        return new PriceTimeline(rows);
+    }
+
+    /**
+     * Returns a timeline without the row with the given id; the same timeline if there is no such row.
+     */
+    public PriceTimeline without(long id) {
+        List<Price> rows = new ArrayList<>(rowCount());
+        for (int row = 0; row < rowCount(); row++) {
+            if (ids[row] != id) {
+                rows.add(materialize(row));
+            }
+        }
+        return rows.size() == rowCount() ? this : new PriceTimeline(rows);
+    }
+
+    /**
+     * Returns the price applicable at the given date. A date with a fraction of a second lies after
+     * the end date of a row ending in its second, so when a boundary falls at the next second the rows
+     * covering both seconds are resolved directly instead of reading either segment.
+     */
+    public Optional<Price> priceAt(LocalDateTime applicationDate) {
+        long second = toEpochSecond(Objects.requireNonNull(applicationDate, "applicationDate"));
+        int segment = segmentIndex(second);
+        if (applicationDate.getNano() != 0 && segment + 1 < boundaries.length && boundaries[segment + 1] == second + 1) {
+            return winnerBetween(second, second + 1);
+        }
+        if (segment < 0 || segmentRows[segment] == NO_ROW) {
+            return Optional.empty();
+        }
+        return Optional.of(materialize(segmentRows[segment]));
+    }
+
+    /**
+     * Returns the first segment boundary strictly after the given instant, i.e. the moment the price
+     * applicable at that instant stops being the applicable one.
+     */
+    public Optional<LocalDateTime> nextBoundaryAfter(LocalDateTime instant) {
+        int next = segmentIndex(toEpochSecond(instant)) + 1;
+        return next < boundaries.length ? Optional.of(toLocalDateTime(boundaries[next])) : Optional.empty();
+    }
+
+    /**
+     * Returns the distinct prices that win at least one segment, in timeline order.
+     */
+    public List<Price> winners() {
+        return Arrays.stream(segmentRows)
+                .filter(row -> row != NO_ROW)
+                .distinct()
+                .mapToObj(this::materialize)
+                .toList();
+    }
+
+    /**
+     * Returns the segments that have a winning price and overlap {@code [from, to]}, in time order
+     * and clipped to the window, with inclusive bounds at second resolution.
+     */
+    public Stream<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        long fromSecond = toEpochSecond(from);
+        long toSecond = toEpochSecond(to);
+        int first = Math.max(segmentIndex(fromSecond), 0);
+        return IntStream.range(first, boundaries.length)
+                .takeWhile(segment -> boundaries[segment] <= toSecond)
+                .filter(segment -> segmentRows[segment] != NO_ROW)
+                .mapToObj(segment -> {
+                    long lastSecond = segment + 1 < boundaries.length ? boundaries[segment + 1] - 1 : Long.MAX_VALUE;
+                    return new PriceSegment(
+                            toLocalDateTime(Math.max(boundaries[segment], fromSecond)),
+                            toLocalDateTime(Math.min(lastSecond, toSecond)),
+                            materialize(segmentRows[segment]));
+                });
+    }
+
+    public int segmentCount() {
+        return boundaries.length;
+    }
+
+    public int rowCount() {
+        return ids.length;
+    }
+
+    /**
+     * Returns how many of the rows given to the last compile were left out because they end before
+     * they start.
+     */
+    public int skippedRowCount() {
+        return skippedRowCount;
+    }
+
+    private Optional<Price> winnerBetween(long fromSecond, long toSecond) {
+        Comparator<Integer> priorityOrder = priorityOrder();
+        Integer winner = null;
+        for (int row = 0; row < rowCount(); row++) {
+            if (startSeconds[row] <= fromSecond && endSeconds[row] >= toSecond
+                    && (winner == null || priorityOrder.compare(row, winner) > 0)) {
+                winner = row;
+            }
+        }
+        return winner == null ? Optional.empty() : Optional.of(materialize(winner));
+    }
+
+    private Comparator<Integer> priorityOrder() {
+        return Comparator
+                .<Integer>comparingInt(row -> priorities[row])
+                .thenComparingLong(row -> startSeconds[row])
+                .thenComparing(Comparator.<Integer>comparingLong(row -> ids[row]).reversed());
+    }
+
+    private int segmentIndex(long epochSecond) {
+        int index = Arrays.binarySearch(boundaries, epochSecond);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Walks the start and end points of all rows in time order, keeping the active rows sorted by
+     * priority, and records a segment whenever the winning row changes.
+     */
+    private long[][] sweep() {
+        int size = ids.length;
+        Integer[] byStart = new Integer[size];
+        Integer[] byEnd = new Integer[size];
+        for (int row = 0; row < size; row++) {
+            byStart[row] = row;
+            byEnd[row] = row;
+        }
+        Arrays.sort(byStart, Comparator.comparingLong(row -> startSeconds[row]));
+        Arrays.sort(byEnd, Comparator.comparingLong(row -> endSeconds[row]));
+
+        TreeSet<Integer> active = new TreeSet<>(priorityOrder());
+
+        List<long[]> segments = new ArrayList<>(size * 2);
+        int nextStart = 0;
+        int nextEnd = 0;
+        while (nextStart < size || nextEnd < size) {
+            long point = nextStart < size
+                    ? Math.min(startSeconds[byStart[nextStart]], endSeconds[byEnd[nextEnd]] + 1)
+                    : endSeconds[byEnd[nextEnd]] + 1;
+            while (nextEnd < size && endSeconds[byEnd[nextEnd]] + 1 == point) {
+                active.remove(byEnd[nextEnd++]);
+            }
+            while (nextStart < size && startSeconds[byStart[nextStart]] == point) {
+                active.add(byStart[nextStart++]);
+            }
+            int winner = active.isEmpty() ? NO_ROW : active.last();
+            if (segments.isEmpty() || segments.get(segments.size() - 1)[1] != winner) {
+                segments.add(new long[]{point, winner});
+            }
+        }
+
+        long[][] result = new long[2][segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            result[0][i] = segments.get(i)[0];
+            result[1][i] = segments.get(i)[1];
+        }
+        return result;
+    }
+
+    private Price materialize(int row) {
+        Price price = materialized[row];
+        if (price == null) {
+            // Benign race: Price is immutable, so concurrent lookups at worst build equal instances
+            price = Price.builder()
+                    .id(ids[row] == NO_ID ? null : ids[row])
+                    .brandId(brandId)
+                    .productId(productId)
+                    .priceList(priceLists[row])
+                    .priority(priorities[row])
+                    .startDate(toLocalDateTime(startSeconds[row]))
+                    .endDate(toLocalDateTime(endSeconds[row]))
+                    .finalPrice(fromHundredths(amounts[row]))
+                    .currency(currencies[row])
+                    .version(versions[row] == NO_VERSION ? null : versions[row])
+                    .build();
+            materialized[row] = price;
+        }
+        return price;
+    }
+}
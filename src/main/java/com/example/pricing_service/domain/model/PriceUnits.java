@@ -0,0 +1,55 @@
+package com.example.pricing_service.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Primitive forms of price dates and amounts shared by {@link PriceTimeline}, the mapped store file and
+ * the binary and gRPC wire formats, so all of them agree on one encoding.
+ * <p>
+ * Dates are epoch seconds, reading local date-times as UTC; sub-second parts are dropped. Row start and
+ * end dates are whole seconds, which the import enforces, so only application dates ever lose a
+ * fraction here, and {@link #toEpochSecondRoundedUp} covers those. Amounts are
+ * unscaled longs at {@link #AMOUNT_SCALE}, i.e. hundredths; an amount with a finer fraction is rejected
+ * with an {@link ArithmeticException} rather than rounded.
+ */
+public final class PriceUnits {
+
+    /**
+     * Scale of the {@code price} column; amounts are stored as unscaled longs at this scale.
+     */
+    public static final int AMOUNT_SCALE = 2;
+
+    private PriceUnits() {
+    }
+
+    public static long toHundredths(BigDecimal amount) {
+        BigDecimal scaled = amount.scale() == AMOUNT_SCALE
+                ? amount
+                : amount.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY);
+        return scaled.unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromHundredths(long hundredths) {
+        return BigDecimal.valueOf(hundredths, AMOUNT_SCALE);
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Like {@link #toEpochSecond}, but a date with a fraction of a second maps to the next second, so
+     * comparing it with an end date keeps a row from applying after the end of its last second.
+     */
+    public static long toEpochSecondRoundedUp(LocalDateTime dateTime) {
+        long epochSecond = toEpochSecond(dateTime);
+        return dateTime.getNano() == 0 ? epochSecond : epochSecond + 1;
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
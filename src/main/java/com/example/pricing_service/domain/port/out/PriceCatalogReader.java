@@ -0,0 +1,33 @@
+package com.example.pricing_service.domain.port.out;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceBoundary;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Sequential, unbuffered read access to a whole brand catalogue, to every price, or to the moments
+ * prices start and stop applying.
+ */
+public interface PriceCatalogReader {
+
+    /**
+     * Pushes every price of the brand that applies at {@code instant} to the consumer, as rows are
+     * read. Rows come ordered by product and, within a product, from the strongest to the weakest
+     * according to {@link Price#PRIORITY_ORDER}, so the first row of each product is its winner.
+     */
+    void forEachApplicable(Long brandId, LocalDateTime instant, Consumer<Price> consumer);
+
+    /**
+     * Pushes every price row to the consumer, as rows are read, ordered by product and then by brand,
+     * so the rows of each product/brand arrive together.
+     */
+    void forEachPrice(Consumer<Price> consumer);
+
+    /**
+     * Pushes every {@link PriceBoundary} in {@code (from, to]} to the consumer, ordered by time. A
+     * product/brand with several prices starting or ending at the same moment is reported once.
+     */
+    void forEachBoundary(LocalDateTime from, LocalDateTime to, Consumer<PriceBoundary> consumer);
+}
@@ -0,0 +1,20 @@
+package com.example.pricing_service.domain.port.out;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only record of every version of every price row, by transaction time: the moment the version
+ * was written, as opposed to the validity of the price itself.
+ */
+public interface PriceHistoryRepository {
+
+    /**
+     * Returns the prices of a product/brand as they were recorded at {@code asOf}: the latest version
+     * of each row recorded no later than {@code asOf}, leaving out rows deleted by then.
+     */
+    List<Price> findAsOf(PriceKey key, LocalDateTime asOf);
+}
@@ -1,11 +1,45 @@
 package com.example.pricing_service.domain.port.out;
 
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
 import com.example.pricing_service.domain.model.PriceQuery;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PriceRepository {
     List<Price> findByQuery(PriceQuery query);
+
+    /**
+     * Returns the price that applies to the query once overlapping prices are resolved by
+     * {@link Price#PRIORITY_ORDER}, or empty when none applies.
+     */
+    Optional<Price> findApplicable(PriceQuery query);
+
+    /**
+     * Returns candidate prices for all the given queries at once. The result may contain rows that
+     * apply to none of the queries; callers are expected to resolve each query against it.
+     */
+    List<Price> findByQueries(Collection<PriceQuery> queries);
+
+    /**
+     * Returns the prices of a product/brand across all dates. Implementations may leave out rows that
+     * never win a lookup, since they cannot change the outcome of any query.
+     */
+    List<Price> findByKey(PriceKey key);
+
+    /**
+     * Returns the prices of a product/brand whose validity overlaps {@code [from, to]}. Like
+     * {@link #findByKey(PriceKey)}, implementations may leave out rows that never win a lookup.
+     */
+    List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the earliest start date, after {@code after} and no later than the end date of
+     * {@code winner}, of a price of the same product/brand that outranks {@code winner} by
+     * {@link Price#PRIORITY_ORDER}: the moment {@code winner} stops applying before its own end date.
+     */
+    Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after);
 }
\ No newline at end of file
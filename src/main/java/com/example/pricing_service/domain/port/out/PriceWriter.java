@@ -0,0 +1,13 @@
+package com.example.pricing_service.domain.port.out;
+
+import com.example.pricing_service.domain.model.Price;
+
+import java.util.List;
+
+public interface PriceWriter {
+
+    /**
+     * Inserts the given prices as new rows, all in one transaction.
+     */
+    void saveAll(List<Price> prices);
+}
@@ -0,0 +1,12 @@
+package com.example.pricing_service.domain.port.out;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PriceRepository#findApplicable(PriceQuery)}.
+ */
+public interface ReactivePriceRepository {
+    Mono<Price> findApplicable(PriceQuery query);
+}
@@ -0,0 +1,43 @@
+package com.example.pricing_service.infrastructure.adapter.in.feed;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum PriceFeedFormat {
+
+    /**
+     * Comma-separated values with a header line naming the columns, in any order.
+     */
+    CSV(MediaType.parseMediaType("text/csv"), ".csv"),
+
+    /**
+     * One JSON object per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, ".ndjson", ".jsonl");
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String[] extensions;
+
+    PriceFeedFormat(MediaType mediaType, String... extensions) {
+        this.mediaType = mediaType;
+        this.extensions = extensions;
+    }
+
+    public static Optional<PriceFeedFormat> forMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst();
+    }
+
+    public static Optional<PriceFeedFormat> forFileName(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> Arrays.stream(format.extensions).anyMatch(lowerCase::endsWith))
+                .findFirst();
+    }
+}
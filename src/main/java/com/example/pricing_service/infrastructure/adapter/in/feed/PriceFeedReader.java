@@ -0,0 +1,149 @@
+package com.example.pricing_service.infrastructure.adapter.in.feed;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Parses a price feed lazily, one line at a time, so the memory used does not depend on the feed size.
+ * <p>
+ * Both formats use the field names of the API: {@code brandId}, {@code productId}, {@code priceList},
+ * {@code priority}, {@code startDate}, {@code endDate}, {@code price} and {@code currency}, with dates
+ * in ISO-8601 local date-time format. CSV values are not quoted. Blank lines are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceFeedReader {
+
+    static final List<String> FIELDS = List.of(
+            "brandId", "productId", "priceList", "priority", "startDate", "endDate", "price", "currency");
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns the parsed lines of the feed. The stream must be closed, which closes the input.
+     */
+    public Stream<PriceFeedLine> read(InputStream input, PriceFeedFormat format) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        AtomicLong lineNumber = new AtomicLong();
+        Stream<String> lines = reader.lines()
+                .peek(line -> lineNumber.incrementAndGet())
+                .filter(line -> !line.isBlank());
+
+        Function<String, PriceFeedLine> parser = switch (format) {
+            case CSV -> csvParser(readHeader(reader, lineNumber), lineNumber);
+            case NDJSON -> line -> parseJson(lineNumber.get(), line);
+        };
+
+        return lines.map(parser).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Map<String, Integer> readHeader(BufferedReader reader, AtomicLong lineNumber) {
+        try {
+            String header = reader.readLine();
+            lineNumber.incrementAndGet();
+            Map<String, Integer> columns = new HashMap<>();
+            if (header != null) {
+                String[] names = header.split(",", -1);
+                for (int i = 0; i < names.length; i++) {
+                    columns.put(names[i].trim(), i);
+                }
+            }
+            return columns;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Function<String, PriceFeedLine> csvParser(Map<String, Integer> columns, AtomicLong lineNumber) {
+        List<String> missing = FIELDS.stream().filter(field -> !columns.containsKey(field)).toList();
+        if (!missing.isEmpty()) {
+            return line -> PriceFeedLine.rejected(lineNumber.get(), "CSV header is missing columns " + missing);
+        }
+        return line -> {
+            String[] values = line.split(",", -1);
+            Map<String, String> fields = new HashMap<>();
+            for (String field : FIELDS) {
+                int column = columns.get(field);
+                if (column < values.length && !values[column].isBlank()) {
+                    fields.put(field, values[column].trim());
+                }
+            }
+            return toLine(lineNumber.get(), fields);
+        };
+    }
+
+    private PriceFeedLine parseJson(long lineNumber, String line) {
+        Map<String, Object> json;
+        try {
+            json = objectMapper.readValue(line, JSON_OBJECT);
+        } catch (JsonProcessingException e) {
+            return PriceFeedLine.rejected(lineNumber, "malformed JSON");
+        }
+        Map<String, String> fields = new HashMap<>();
+        json.forEach((field, value) -> {
+            if (value != null) {
+                fields.put(field, value.toString());
+            }
+        });
+        return toLine(lineNumber, fields);
+    }
+
+    private static PriceFeedLine toLine(long lineNumber, Map<String, String> fields) {
+        List<String> missing = new ArrayList<>();
+        for (String field : FIELDS) {
+            if (!fields.containsKey(field)) {
+                missing.add(field);
+            }
+        }
+        if (!missing.isEmpty()) {
+            return PriceFeedLine.rejected(lineNumber, "missing fields " + missing);
+        }
+        try {
+            return PriceFeedLine.accepted(lineNumber, Price.builder()
+                    .brandId(Long.valueOf(fields.get("brandId")))
+                    .productId(Long.valueOf(fields.get("productId")))
+                    .priceList(Long.valueOf(fields.get("priceList")))
+                    .priority(Integer.valueOf(fields.get("priority")))
+                    .startDate(LocalDateTime.parse(fields.get("startDate")))
+                    .endDate(LocalDateTime.parse(fields.get("endDate")))
+                    .finalPrice(new BigDecimal(fields.get("price")))
+                    .currency(fields.get("currency"))
+                    .build());
+        } catch (NumberFormatException e) {
+            return PriceFeedLine.rejected(lineNumber, "invalid number");
+        } catch (DateTimeParseException e) {
+            return PriceFeedLine.rejected(lineNumber, "invalid date '" + e.getParsedString() + "'");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.pricing_service.infrastructure.adapter.in.feed;
+
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceImportReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Imports the feed file named by {@code pricing.bulk-import.file} once the application has started.
+ * Run it with {@code --spring.main.web-application-type=none} to load a feed and exit.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PriceImportRunner implements ApplicationRunner {
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceFeedReader feedReader;
+    private final Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        PriceFeedFormat format = PriceFeedFormat.forFileName(file.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Cannot tell the feed format of " + file + ", expected a .csv, .ndjson or .jsonl file"));
+
+        log.info("Importing prices from {} as {}", file, format);
+        PriceImportReport report;
+        try (Stream<PriceFeedLine> feed = feedReader.read(Files.newInputStream(file), format)) {
+            report = importPricesUseCase.importPrices(feed);
+        }
+        log.info("Imported {} prices from {} in {} ms ({} rows/s), rejected {}",
+                report.imported(), file, report.elapsed().toMillis(), report.rowsPerSecond(), report.rejected());
+        report.rejections().forEach(rejection ->
+                log.warn("Rejected line {} of {}: {}", rejection.lineNumber(), file, rejection.reason()));
+    }
+}
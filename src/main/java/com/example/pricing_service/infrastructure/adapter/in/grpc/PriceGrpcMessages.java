@@ -0,0 +1,50 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.Price;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookup;
+
+import static com.example.pricing_service.domain.model.PriceUnits.*;
+
+/**
+ * Conversions between the protobuf messages of {@code price_service.proto} and the domain model, with
+ * dates and amounts in their {@link com.example.pricing_service.domain.model.PriceUnits} form.
+ */
+final class PriceGrpcMessages {
+
+    private PriceGrpcMessages() {
+    }
+
+    /**
+     * An {@code application_date} of 0 is the proto3 default of an unset field, so it is rejected as
+     * missing rather than read as 1970-01-01.
+     *
+     * @throws IllegalArgumentException when the lookup has no application date, product or brand
+     */
+    static PriceQuery toQuery(PriceLookup lookup) {
+        if (lookup.getApplicationDate() == 0) {
+            throw new IllegalArgumentException("application_date is required");
+        }
+        if (lookup.getProductId() <= 0 || lookup.getBrandId() <= 0) {
+            throw new IllegalArgumentException("product_id and brand_id are required");
+        }
+        return PriceQuery.builder()
+                .applicationDate(toLocalDateTime(lookup.getApplicationDate()))
+                .productId(lookup.getProductId())
+                .brandId(lookup.getBrandId())
+                .asOf(lookup.hasAsOf() ? toLocalDateTime(lookup.getAsOf()) : null)
+                .build();
+    }
+
+    static Price toMessage(com.example.pricing_service.domain.model.Price price) {
+        return Price.newBuilder()
+                .setProductId(price.getProductId())
+                .setBrandId(price.getBrandId())
+                .setPriceList(price.getPriceList())
+                .setStartDate(toEpochSecond(price.getStartDate()))
+                .setEndDate(toEpochSecond(price.getEndDate()))
+                .setAmount(toHundredths(price.getFinalPrice()))
+                .setCurrency(price.getCurrency())
+                .build();
+    }
+}
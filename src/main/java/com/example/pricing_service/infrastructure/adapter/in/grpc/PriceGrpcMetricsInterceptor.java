@@ -0,0 +1,42 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every gRPC call from its start to the status it closes with, tagged by method and status code.
+ * A stream is timed as a whole, so its timer measures how long clients keep streams open rather than
+ * the latency of each lookup.
+ */
+public class PriceGrpcMetricsInterceptor implements ServerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public PriceGrpcMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                        ServerCallHandler<Q, R> next) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String method = call.getMethodDescriptor().getBareMethodName();
+        return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                sample.stop(Timer.builder("pricing.grpc.calls")
+                        .description("gRPC price lookup calls, from start to close")
+                        .tag("method", method)
+                        .tag("status", status.getCode().name())
+                        .register(meterRegistry));
+                super.close(status, trailers);
+            }
+        }, headers);
+    }
+}
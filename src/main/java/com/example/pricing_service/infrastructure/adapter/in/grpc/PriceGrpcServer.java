@@ -0,0 +1,60 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty server of the gRPC adapter, on its own port next to the HTTP server. Stopping it refuses new
+ * calls and gives the ones in flight the grace period to finish before cancelling them.
+ */
+@Slf4j
+public class PriceGrpcServer {
+
+    private final Server server;
+    private final PricingProperties.Grpc settings;
+
+    public PriceGrpcServer(BindableService service, ServerInterceptor interceptor, PricingProperties.Grpc settings) {
+        this.server = NettyServerBuilder.forPort(settings.port())
+                .addService(ServerInterceptors.intercept(service, interceptor))
+                .build();
+        this.settings = settings;
+    }
+
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the gRPC server on port " + settings.port(), e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(settings.shutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC calls still running after {}, cancelling them", settings.shutdownGracePeriod());
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The port the server listens on, the one picked when configured with {@code 0}.
+     */
+    public int port() {
+        return server.getPort();
+    }
+}
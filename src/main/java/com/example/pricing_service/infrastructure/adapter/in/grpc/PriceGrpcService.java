@@ -0,0 +1,101 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.Price;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookup;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookupResult;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceServiceGrpc;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC inbound adapter of {@link FindApplicablePriceUseCase}, next to the REST controllers.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PriceGrpcService extends PriceServiceGrpc.PriceServiceImplBase {
+
+    private final FindApplicablePriceUseCase findApplicablePriceUseCase;
+
+    @Override
+    public void getApplicablePrice(PriceLookup lookup, StreamObserver<Price> responseObserver) {
+        Price price;
+        try {
+            price = PriceGrpcMessages.toMessage(
+                    findApplicablePriceUseCase.findApplicablePrice(PriceGrpcMessages.toQuery(lookup)));
+        } catch (RuntimeException e) {
+            responseObserver.onError(PriceGrpcStatus.of(e));
+            return;
+        }
+        responseObserver.onNext(price);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<PriceLookup> streamApplicablePrices(StreamObserver<PriceLookupResult> responseObserver) {
+        ServerCallStreamObserver<PriceLookupResult> results = (ServerCallStreamObserver<PriceLookupResult>) responseObserver;
+        LookupStream stream = new LookupStream(results);
+        results.disableAutoRequest();
+        results.setOnReadyHandler(stream::onReady);
+        return stream;
+    }
+
+    /**
+     * Reads one lookup at a time, and only while the client is ready for more results: a lookup is
+     * requested from the transport when the outbound buffer drains, and not again until its result
+     * has been sent. gRPC runs the callbacks of a call one at a time, so the state needs no locking.
+     */
+    @RequiredArgsConstructor
+    private final class LookupStream implements StreamObserver<PriceLookup> {
+
+        private final ServerCallStreamObserver<PriceLookupResult> results;
+        private boolean awaitingLookup;
+        private boolean closed;
+
+        void onReady() {
+            if (!closed && !awaitingLookup && results.isReady()) {
+                awaitingLookup = true;
+                results.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(PriceLookup lookup) {
+            awaitingLookup = false;
+            if (closed) {
+                return;
+            }
+            PriceLookupResult.Builder result = PriceLookupResult.newBuilder().setLookup(lookup);
+            try {
+                PriceQuery query = PriceGrpcMessages.toQuery(lookup);
+                result.setPrice(PriceGrpcMessages.toMessage(findApplicablePriceUseCase.findApplicablePrice(query)));
+            } catch (PriceNotFoundException e) {
+                // Reported in the result; the stream goes on
+            } catch (RuntimeException e) {
+                closed = true;
+                results.onError(PriceGrpcStatus.of(e));
+                return;
+            }
+            results.onNext(result.build());
+            onReady();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            closed = true;
+            log.debug("Price lookup stream cancelled by the client", error);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!closed) {
+                closed = true;
+                results.onCompleted();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import com.example.pricing_service.domain.exception.InvalidDateRangeException;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.infrastructure.sharding.ShardUnavailableException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maps exceptions to gRPC statuses the way {@code GlobalExceptionHandler} maps them to HTTP statuses.
+ */
+@Slf4j
+final class PriceGrpcStatus {
+
+    private PriceGrpcStatus() {
+    }
+
+    static StatusRuntimeException of(Throwable error) {
+        Status status;
+        if (error instanceof PriceNotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (error instanceof InvalidDateRangeException || error instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (error instanceof ShardUnavailableException) {
+            status = Status.UNAVAILABLE;
+        } else {
+            log.error("Unexpected error in a gRPC price lookup", error);
+            return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+        }
+        return status.withDescription(error.getMessage()).asRuntimeException();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.pricing_service.infrastructure.adapter.in.reactive;
+
+import com.example.pricing_service.application.usecase.ReactiveFindApplicablePriceUseCase;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking variant of {@code GET /prices}, active when the application runs on WebFlux
+ * ({@code reactive} profile). Shares the request parameters, response body and error contract of
+ * the servlet {@link com.example.pricing_service.infrastructure.adapter.in.rest.PriceController}.
+ */
+@RestController
+@RequestMapping("/prices")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceController {
+
+    private final ReactiveFindApplicablePriceUseCase findApplicablePriceUseCase;
+    private final PriceDtoMapper mapper;
+
+    @GetMapping
+    public Mono<ResponseEntity<PriceResponse>> getApplicablePrice(
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @RequestParam
+            Long productId,
+
+            @RequestParam
+            Long brandId) {
+
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .build();
+
+        return findApplicablePriceUseCase.findApplicablePrice(query)
+                .map(price -> ResponseEntity.ok(mapper.toResponse(price)));
+    }
+}
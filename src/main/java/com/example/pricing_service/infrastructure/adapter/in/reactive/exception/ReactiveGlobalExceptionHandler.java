@@ -0,0 +1,96 @@
+package com.example.pricing_service.infrastructure.adapter.in.reactive.exception;
+
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * WebFlux counterpart of {@link com.example.pricing_service.infrastructure.adapter.in.rest.exception.GlobalExceptionHandler},
+ * producing the same error codes and messages.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(PriceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePriceNotFound(
+            PriceNotFoundException ex,
+            ServerHttpRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "PRICE_NOT_FOUND",
+                ex.getMessage(),
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(MissingRequestValueException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(
+            MissingRequestValueException ex,
+            ServerHttpRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "MISSING_PARAMETER",
+                String.format("Required parameter '%s' is missing", ex.getName()),
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(
+            ServerWebInputException ex,
+            ServerHttpRequest request) {
+
+        if (!(ex.getCause() instanceof TypeMismatchException mismatch)) {
+            ErrorResponse error = ErrorResponse.of(
+                    "INVALID_REQUEST",
+                    ex.getReason() != null ? ex.getReason() : "Request is invalid",
+                    request.getPath().value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        MethodParameter parameter = ex.getMethodParameter();
+        String message = String.format(
+                "Parameter '%s' must be of type %s. Invalid value: '%s'",
+                parameter != null ? parameter.getParameterName() : mismatch.getPropertyName(),
+                mismatch.getRequiredType() != null ? mismatch.getRequiredType().getSimpleName() : "unknown",
+                mismatch.getValue()
+        );
+
+        ErrorResponse error = ErrorResponse.of(
+                "INVALID_PARAMETER_TYPE",
+                message,
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "INTERNAL_ERROR",
+                "An unexpected error occurred",
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.infrastructure.changefeed.PeerPriceChangeReceiver;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeNotice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Price changes posted by other nodes ({@code pricing.change-feed.transport=http}). The body only names
+ * the changed rows; their content is read from the database before being delivered to this node's
+ * listeners, never forwarded again.
+ */
+@RestController
+@RequestMapping("/internal/price-changes")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnExpression("${pricing.change-feed.enabled:false} and '${pricing.change-feed.transport:local}' == 'http'")
+public class InternalPriceChangeController {
+
+    private final PeerPriceChangeReceiver receiver;
+
+    @PostMapping
+    public ResponseEntity<Void> receive(@RequestBody List<PriceChangeNotice> notices) {
+        receiver.receive(notices);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ShardPriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.example.pricing_service.infrastructure.config.ShardingConfig;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lookups forwarded by other nodes of a sharded deployment ({@code pricing.sharding.enabled}).
+ * <p>
+ * Answers from this node's own data only, whatever the shard map says, so a request that reaches a
+ * node with an outdated map is answered rather than bounced between nodes.
+ */
+@RestController
+@RequestMapping("/internal/prices")
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.sharding.enabled", havingValue = "true")
+public class InternalPriceController {
+
+    private final FindApplicablePriceUseCase localUseCase;
+    private final PriceDtoMapper mapper;
+
+    public InternalPriceController(
+            @Qualifier(ShardingConfig.LOCAL_USE_CASE) FindApplicablePriceUseCase localUseCase,
+            PriceDtoMapper mapper) {
+        this.localUseCase = localUseCase;
+        this.mapper = mapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<ShardPriceResponse> getApplicablePrice(
+            @RequestParam @NotNull
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @RequestParam @NotNull
+            Long productId,
+
+            @RequestParam @NotNull
+            Long brandId,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime asOf) {
+
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .asOf(asOf)
+                .build();
+        return ResponseEntity.ok(mapper.toShardResponse(localUseCase.findApplicablePriceWithValidity(query)));
+    }
+
+    /**
+     * Returns one entry per item, in request order, with {@code null} for items without a price.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ShardPriceResponse>> getApplicablePrices(
+            @RequestBody @Valid PriceBatchRequest request) {
+
+        List<PriceLookupResult> results = localUseCase.findApplicablePrices(mapper.toQueries(request.items()));
+        return ResponseEntity.ok(results.stream()
+                .map(result -> result.isFound() ? mapper.toShardResponse(result.price()) : null)
+                .toList());
+    }
+}
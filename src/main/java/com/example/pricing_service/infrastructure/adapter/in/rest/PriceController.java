@@ -1,32 +1,81 @@
 package com.example.pricing_service.infrastructure.adapter.in.rest;
 
-import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookupResult;
 import com.example.pricing_service.domain.model.PriceQuery;
 import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.infrastructure.adapter.in.rest.codec.PriceBinaryCodec;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
 import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
 import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/prices")
-@RequiredArgsConstructor
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PriceController {
 
     private final FindApplicablePriceUseCase findApplicablePriceUseCase;
     private final PriceDtoMapper mapper;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final Clock clock;
+    private final Duration maxCacheAge;
+    private final Timer successTimer;
+    private final Timer errorTimer;
 
+    public PriceController(FindApplicablePriceUseCase findApplicablePriceUseCase,
+                           PriceDtoMapper mapper,
+                           ContentNegotiationManager contentNegotiationManager,
+                           Clock clock,
+                           PricingProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.findApplicablePriceUseCase = findApplicablePriceUseCase;
+        this.mapper = mapper;
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.clock = clock;
+        this.maxCacheAge = properties.httpCache().maxAge();
+        this.successTimer = lookupTimer(meterRegistry, "success");
+        this.errorTimer = lookupTimer(meterRegistry, "error");
+    }
+
+    /**
+     * The ETag identifies the winning row and its version, so a client holding it can revalidate with
+     * {@code If-None-Match} and get a 304 without the body being mapped or serialized. The body is JSON
+     * unless the client accepts the binary price format, hence {@code Vary: Accept}; a binary body gets
+     * its own ETag, since the two representations are not byte-for-byte equal. With {@code asOf}, the
+     * price is resolved from the rows as they were recorded at that moment.
+     */
     @GetMapping
     public ResponseEntity<PriceResponse> getApplicablePrice(
             @RequestParam @NotNull
@@ -37,15 +86,92 @@ public class PriceController {
             Long productId,
 
             @RequestParam @NotNull
-            Long brandId) {
+            Long brandId,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime asOf,
+
+            NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
 
         PriceQuery query = PriceQuery.builder()
                 .applicationDate(applicationDate)
                 .productId(productId)
                 .brandId(brandId)
+                .asOf(asOf)
                 .build();
 
-        Price price = findApplicablePriceUseCase.findApplicablePrice(query);
-        return ResponseEntity.ok(mapper.toResponse(price));
+        Timer.Sample sample = Timer.start();
+        Timer timer = errorTimer;
+        try {
+            ApplicablePrice applicable = findApplicablePriceUseCase.findApplicablePriceWithValidity(query);
+            String eTag = eTag(applicable.price(), isBinary(request));
+            CacheControl cacheControl = cacheControl(applicable.validUntil());
+            ResponseEntity<PriceResponse> response = request.checkNotModified(eTag)
+                    ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(eTag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT).build()
+                    : ResponseEntity.ok()
+                            .eTag(eTag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT)
+                            .body(mapper.toResponse(applicable.price()));
+            timer = successTimer;
+            return response;
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PriceBatchResponse> getApplicablePrices(
+            @RequestBody @Valid PriceBatchRequest request) {
+
+        List<PriceLookupResult> results = findApplicablePriceUseCase.findApplicablePrices(
+                mapper.toQueries(request.items()));
+        return ResponseEntity.ok(mapper.toBatchResponse(results));
+    }
+
+    private static String eTag(Price price, boolean binary) {
+        return "\"" + price.getId() + "-" + (price.getVersion() == null ? 0 : price.getVersion())
+                + (binary ? "-binary" : "") + "\"";
+    }
+
+    /**
+     * Whether the body will be written in the binary format, resolved the way the message converters
+     * are picked: the most specific accepted type that either format produces wins, and wildcards get
+     * JSON, whose converter comes first.
+     */
+    private boolean isBinary(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> accepted = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(request));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON) || type.isCompatibleWith(PriceBinaryCodec.MEDIA_TYPE)) {
+                return type.equalsTypeAndSubtype(PriceBinaryCodec.MEDIA_TYPE);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Caches the response until the price stops applying, bounded by {@code pricing.http-cache.max-age}.
+     * Prices that stopped applying in the past no longer change with time, so they get the full bound.
+     */
+    private CacheControl cacheControl(LocalDateTime validUntil) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = validUntil.plusSeconds(1);
+        Duration maxAge = maxCacheAge;
+        if (expiresAt.isAfter(now)) {
+            Duration timeLeft = Duration.between(now, expiresAt);
+            if (timeLeft.compareTo(maxAge) < 0) {
+                maxAge = timeLeft;
+            }
+        }
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("pricing.controller.lookup")
+                .description("Time spent in GET /prices, from parameter binding to the mapped response")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
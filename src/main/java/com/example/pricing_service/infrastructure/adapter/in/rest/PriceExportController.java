@@ -0,0 +1,69 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.application.usecase.ExportApplicablePricesUseCase;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Exports the applicable price of every product of a brand as JSON lines, one {@code PriceResponse}
+ * per line, in product order.
+ * <p>
+ * The export writes straight to the servlet output stream on the request thread, rather than through
+ * an async {@code StreamingResponseBody}, so a long export is not cut by the async request timeout.
+ * Once the first line is sent the status can no longer change; a failure past that point aborts the
+ * connection and leaves a truncated body.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/prices")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceExportController {
+
+    private final ExportApplicablePricesUseCase exportApplicablePricesUseCase;
+    private final PriceDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportApplicablePrices(
+            @RequestParam @NotNull
+            Long brandId,
+
+            @RequestParam @NotNull
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            long exported = exportApplicablePricesUseCase.exportApplicablePrices(brandId, applicationDate, price -> {
+                try {
+                    generator.writePOJO(mapper.toResponse(price));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.debug("Exported {} prices of brand {} at {}", exported, brandId, applicationDate);
+        }
+    }
+}
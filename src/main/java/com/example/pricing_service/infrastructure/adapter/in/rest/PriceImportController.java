@@ -0,0 +1,52 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceImportReport;
+import com.example.pricing_service.infrastructure.adapter.in.feed.PriceFeedFormat;
+import com.example.pricing_service.infrastructure.adapter.in.feed.PriceFeedReader;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceImportResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Bulk price ingestion. The request body is read as a stream, never buffered as a whole.
+ */
+@RestController
+@RequestMapping("/prices")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceImportController {
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceFeedReader feedReader;
+    private final PriceDtoMapper mapper;
+
+    @PostMapping(path = "/import", consumes = {PriceFeedFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<PriceImportResponse> importPrices(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws HttpMediaTypeNotSupportedException {
+
+        PriceFeedFormat format = PriceFeedFormat.forMediaType(contentType)
+                .orElseThrow(() -> new HttpMediaTypeNotSupportedException(contentType, List.of()));
+
+        PriceImportReport report;
+        try (Stream<PriceFeedLine> feed = feedReader.read(body, format)) {
+            report = importPricesUseCase.importPrices(feed);
+        }
+        return ResponseEntity.ok(mapper.toImportResponse(report));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.application.usecase.FindPriceSegmentsUseCase;
+import com.example.pricing_service.domain.model.PriceRangeQuery;
+import com.example.pricing_service.domain.model.PriceSegment;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Effective prices of a product over a date window. Segments are serialized one by one as they are
+ * produced, so long windows are never held in memory as a whole response.
+ */
+@RestController
+@RequestMapping("/prices")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceTimelineController {
+
+    private final FindPriceSegmentsUseCase findPriceSegmentsUseCase;
+    private final PriceDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/timeline")
+    public ResponseEntity<StreamingResponseBody> getPriceTimeline(
+            @RequestParam @NotNull
+            Long productId,
+
+            @RequestParam @NotNull
+            Long brandId,
+
+            @RequestParam @NotNull
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @RequestParam @NotNull
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to) {
+
+        PriceRangeQuery query = PriceRangeQuery.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .from(from)
+                .to(to)
+                .build();
+
+        // Resolved before the response is committed, so validation and query errors still map to error responses
+        Stream<PriceSegment> segments = findPriceSegmentsUseCase.findPriceSegments(query);
+
+        StreamingResponseBody body = outputStream -> {
+            try (segments; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeNumberField("productId", productId);
+                generator.writeNumberField("brandId", brandId);
+                generator.writePOJOField("from", from);
+                generator.writePOJOField("to", to);
+                generator.writeArrayFieldStart("segments");
+                Iterator<PriceSegment> iterator = segments.iterator();
+                while (iterator.hasNext()) {
+                    generator.writePOJO(mapper.toSegmentResponse(iterator.next()));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.admin;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceSnapshotResponse;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceInMemoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reports and reloads the in-memory price snapshot ({@code pricing.repository.type=in-memory}).
+ */
+@RestController
+@RequestMapping("/admin/price-snapshot")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "in-memory")
+public class PriceSnapshotAdminController {
+
+    private final PriceInMemoryAdapter inMemoryAdapter;
+
+    @GetMapping
+    public ResponseEntity<PriceSnapshotResponse> getSnapshot() {
+        return ResponseEntity.ok(currentState());
+    }
+
+    /**
+     * Starts building the next snapshot from the database and returns immediately. Lookups keep
+     * being served from the current snapshot until the new one is published; poll {@code GET} for
+     * the new version.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<PriceSnapshotResponse> reload() {
+        inMemoryAdapter.reload();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(currentState());
+    }
+
+    private PriceSnapshotResponse currentState() {
+        boolean reloading = inMemoryAdapter.isReloading();
+        return inMemoryAdapter.currentSnapshot()
+                .map(snapshot -> new PriceSnapshotResponse(
+                        snapshot.version(),
+                        snapshot.rowCount(),
+                        snapshot.index().size(),
+                        snapshot.buildTime().toMillis(),
+                        snapshot.builtAt(),
+                        reloading))
+                .orElseGet(() -> new PriceSnapshotResponse(0, 0, 0, null, null, reloading));
+    }
+}
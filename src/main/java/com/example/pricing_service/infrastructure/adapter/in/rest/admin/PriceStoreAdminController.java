@@ -0,0 +1,63 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.admin;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceStoreResponse;
+import com.example.pricing_service.infrastructure.adapter.out.mapped.MappedPriceStoreExporter;
+import com.example.pricing_service.infrastructure.adapter.out.mapped.PriceMappedAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reports and re-exports the mapped price store ({@code pricing.repository.type=mapped}).
+ */
+@RestController
+@RequestMapping("/admin/price-store")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "mapped")
+public class PriceStoreAdminController {
+
+    private final PriceMappedAdapter mappedAdapter;
+    private final MappedPriceStoreExporter exporter;
+
+    @GetMapping
+    public ResponseEntity<PriceStoreResponse> getStore() {
+        return ResponseEntity.ok(currentState());
+    }
+
+    /**
+     * Rewrites the store file from the database and maps it once written. Lookups keep being served
+     * from the current store until then.
+     */
+    @PostMapping("/export")
+    public ResponseEntity<PriceStoreResponse> export() {
+        exporter.export();
+        return ResponseEntity.ok(currentState());
+    }
+
+    /**
+     * Maps the store file again, e.g. after another node or a batch job has replaced it.
+     */
+    @PostMapping("/reopen")
+    public ResponseEntity<PriceStoreResponse> reopen() {
+        mappedAdapter.reopen();
+        return ResponseEntity.ok(currentState());
+    }
+
+    private PriceStoreResponse currentState() {
+        return mappedAdapter.currentStore()
+                .map(store -> new PriceStoreResponse(
+                        store.file().toString(),
+                        true,
+                        store.rowCount(),
+                        store.keyCount(),
+                        store.sizeBytes(),
+                        store.exportedAt()))
+                .orElseGet(() -> new PriceStoreResponse(mappedAdapter.file().toString(), false, null, null, null, null));
+    }
+}
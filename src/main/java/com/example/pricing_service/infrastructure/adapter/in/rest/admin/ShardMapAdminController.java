@@ -0,0 +1,47 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.admin;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ShardMapRequest;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ShardMapResponse;
+import com.example.pricing_service.infrastructure.sharding.ShardMap;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reports and replaces the shard map of this node ({@code pricing.sharding.enabled}).
+ */
+@RestController
+@RequestMapping("/admin/shard-map")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.sharding.enabled", havingValue = "true")
+public class ShardMapAdminController {
+
+    private final ShardMap shardMap;
+
+    @GetMapping
+    public ResponseEntity<ShardMapResponse> getShardMap() {
+        return ResponseEntity.ok(currentState());
+    }
+
+    /**
+     * Replaces the node list, e.g. to add a node. Takes effect for the next lookup; send the same map
+     * to every node.
+     */
+    @PutMapping
+    public ResponseEntity<ShardMapResponse> updateShardMap(@RequestBody @Valid ShardMapRequest request) {
+        shardMap.update(request.nodes());
+        return ResponseEntity.ok(currentState());
+    }
+
+    private ShardMapResponse currentState() {
+        return new ShardMapResponse(shardMap.localNode(), shardMap.virtualNodes(), shardMap.nodes());
+    }
+}
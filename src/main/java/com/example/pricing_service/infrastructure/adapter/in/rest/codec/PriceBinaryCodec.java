@@ -0,0 +1,146 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.codec;
+
+import com.example.pricing_service.domain.model.PriceUnits;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.pricing_service.domain.model.PriceUnits.*;
+
+/**
+ * Fixed-layout binary encoding of price responses, for internal clients that would rather not pay
+ * for JSON.
+ * <p>
+ * All numbers are big-endian. Dates and amounts are in their {@link PriceUnits} form: epoch seconds
+ * and hundredths. Currencies are three ASCII bytes. Price dates are whole seconds, as every stored row's
+ * are; the application date a batch result echoes may carry a fraction, so it is followed by its
+ * nanosecond of second. Every message starts with a format version byte:
+ * <pre>
+ * price   = version:u8, price-body                                    (52 bytes)
+ * batch   = version:u8, count:i32, result * count
+ * result  = applicationDate:i64, applicationNanos:i32, productId:i64, brandId:i64, status:u8,
+ *           [price-body if status = 0]
+ * price-body = productId:i64, brandId:i64, priceList:i64, startDate:i64, endDate:i64,
+ *              amount:i64, currency:3 bytes                           (51 bytes)
+ * </pre>
+ * Status 0 is {@code FOUND} and 1 is {@code NOT_FOUND}; not-found results carry no error message.
+ */
+public final class PriceBinaryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-pricing-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+    static final byte FORMAT_VERSION = 2;
+    static final int PRICE_BODY_BYTES = 6 * Long.BYTES + 3;
+    static final int PRICE_MESSAGE_BYTES = 1 + PRICE_BODY_BYTES;
+    static final int RESULT_HEADER_BYTES = 3 * Long.BYTES + Integer.BYTES + 1;
+
+    private static final byte FOUND = 0;
+    private static final byte NOT_FOUND = 1;
+
+    private PriceBinaryCodec() {
+    }
+
+    private static int sizeOf(PriceBatchResponse batch) {
+        int size = 1 + Integer.BYTES;
+        for (PriceBatchResponse.Result result : batch.results()) {
+            size += RESULT_HEADER_BYTES + (result.price() != null ? PRICE_BODY_BYTES : 0);
+        }
+        return size;
+    }
+
+    /**
+     * Encodes into an array of the exact message size, so the whole message reaches the response
+     * stream in a single write.
+     */
+    public static byte[] encode(PriceResponse price) {
+        ByteBuffer out = ByteBuffer.allocate(PRICE_MESSAGE_BYTES);
+        out.put(FORMAT_VERSION);
+        writeBody(price, out);
+        return out.array();
+    }
+
+    public static byte[] encode(PriceBatchResponse batch) {
+        ByteBuffer out = ByteBuffer.allocate(sizeOf(batch));
+        out.put(FORMAT_VERSION);
+        out.putInt(batch.results().size());
+        for (PriceBatchResponse.Result result : batch.results()) {
+            out.putLong(toEpochSecond(result.applicationDate()));
+            out.putInt(result.applicationDate().getNano());
+            out.putLong(result.productId());
+            out.putLong(result.brandId());
+            if (result.price() != null) {
+                out.put(FOUND);
+                writeBody(result.price(), out);
+            } else {
+                out.put(NOT_FOUND);
+            }
+        }
+        return out.array();
+    }
+
+    public static PriceResponse decodePrice(ByteBuffer in) {
+        checkVersion(in);
+        return readBody(in);
+    }
+
+    public static PriceBatchResponse decodeBatch(ByteBuffer in) {
+        checkVersion(in);
+        int count = in.getInt();
+        List<PriceBatchResponse.Result> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime applicationDate = toLocalDateTime(in.getLong()).withNano(in.getInt());
+            long productId = in.getLong();
+            long brandId = in.getLong();
+            boolean found = in.get() == FOUND;
+            results.add(new PriceBatchResponse.Result(
+                    applicationDate, productId, brandId,
+                    found ? PriceBatchResponse.Status.FOUND : PriceBatchResponse.Status.NOT_FOUND,
+                    found ? readBody(in) : null,
+                    null));
+        }
+        return new PriceBatchResponse(results);
+    }
+
+    private static void writeBody(PriceResponse price, ByteBuffer out) {
+        String currency = price.getCurrency();
+        if (currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a three-letter code: " + currency);
+        }
+        out.putLong(price.getProductId());
+        out.putLong(price.getBrandId());
+        out.putLong(price.getPriceList());
+        out.putLong(toEpochSecond(price.getStartDate()));
+        out.putLong(toEpochSecond(price.getEndDate()));
+        out.putLong(toHundredths(price.getFinalPrice()));
+        for (int i = 0; i < 3; i++) {
+            out.put((byte) currency.charAt(i));
+        }
+    }
+
+    private static PriceResponse readBody(ByteBuffer in) {
+        PriceResponse.PriceResponseBuilder price = PriceResponse.builder()
+                .productId(in.getLong())
+                .brandId(in.getLong())
+                .priceList(in.getLong())
+                .startDate(toLocalDateTime(in.getLong()))
+                .endDate(toLocalDateTime(in.getLong()))
+                .finalPrice(fromHundredths(in.getLong()));
+        byte[] currency = new byte[3];
+        in.get(currency);
+        return price.currency(new String(currency, StandardCharsets.US_ASCII)).build();
+    }
+
+    private static void checkVersion(ByteBuffer in) {
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported price format version " + version);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.codec;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link PriceResponse} and {@link PriceBatchResponse} bodies as {@link PriceBinaryCodec}
+ * messages when the client accepts {@value PriceBinaryCodec#MEDIA_TYPE_VALUE}. Responses only;
+ * request bodies stay JSON.
+ */
+public class PriceBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public PriceBinaryHttpMessageConverter() {
+        super(PriceBinaryCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PriceResponse.class == clazz || PriceBatchResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary price messages are response-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        byte[] message = body instanceof PriceResponse price
+                ? PriceBinaryCodec.encode(price)
+                : PriceBinaryCodec.encode((PriceBatchResponse) body);
+        outputMessage.getHeaders().setContentLength(message.length);
+        outputMessage.getBody().write(message);
+    }
+}
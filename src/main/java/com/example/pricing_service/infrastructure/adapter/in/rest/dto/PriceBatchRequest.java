@@ -0,0 +1,27 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PriceBatchRequest(
+        @NotEmpty
+        @Size(max = PriceBatchRequest.MAX_ITEMS)
+        List<@Valid @NotNull Item> items) {
+
+    public static final int MAX_ITEMS = 5000;
+
+    /**
+     * @param asOf optional transaction time to answer the item at, from the price history
+     */
+    public record Item(
+            @NotNull LocalDateTime applicationDate,
+            @NotNull Long productId,
+            @NotNull Long brandId,
+            LocalDateTime asOf) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PriceBatchResponse(List<Result> results) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(
+            LocalDateTime applicationDate,
+            Long productId,
+            Long brandId,
+            Status status,
+            PriceResponse price,
+            ErrorResponse error) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+public record PriceImportResponse(
+        long imported,
+        long rejected,
+        long elapsedMillis,
+        long rowsPerSecond,
+        List<Rejection> rejections) {
+
+    public record Rejection(long line, String reason) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PriceSegmentResponse(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Long priceList,
+        BigDecimal finalPrice,
+        String currency) {
+}
@@ -0,0 +1,18 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * State of the in-memory price snapshot. Version 0 means no snapshot has been published yet.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceSnapshotResponse(
+        long version,
+        int rowCount,
+        int timelines,
+        Long buildMillis,
+        Instant builtAt,
+        boolean reloading) {
+}
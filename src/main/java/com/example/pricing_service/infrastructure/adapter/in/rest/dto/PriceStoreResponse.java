@@ -0,0 +1,18 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * State of the mapped price store. When no store is open, lookups are served by the database.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceStoreResponse(
+        String file,
+        boolean open,
+        Integer rowCount,
+        Integer keys,
+        Long sizeBytes,
+        Instant exportedAt) {
+}
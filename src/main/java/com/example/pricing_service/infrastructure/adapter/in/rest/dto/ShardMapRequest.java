@@ -0,0 +1,12 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Map;
+
+/**
+ * @param nodes base URL of every node, keyed by node name
+ */
+public record ShardMapRequest(@NotEmpty Map<@NotBlank String, @NotBlank String> nodes) {
+}
@@ -0,0 +1,6 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import java.util.Map;
+
+public record ShardMapResponse(String localNode, int virtualNodes, Map<String, String> nodes) {
+}
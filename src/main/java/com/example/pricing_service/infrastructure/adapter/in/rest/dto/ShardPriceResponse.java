@@ -0,0 +1,23 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Applicable price as exchanged between nodes of a sharded deployment: the whole row, so the
+ * forwarding node can build the same ETag and cache headers as the owner. {@code validUntil} is only
+ * set on single lookups.
+ */
+public record ShardPriceResponse(
+        Long id,
+        Long brandId,
+        Long productId,
+        Long priceList,
+        Integer priority,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal finalPrice,
+        String currency,
+        Long version,
+        LocalDateTime validUntil) {
+}
@@ -1,18 +1,34 @@
 package com.example.pricing_service.infrastructure.adapter.in.rest.exception;
 
+import com.example.pricing_service.domain.exception.InvalidDateRangeException;
 import com.example.pricing_service.domain.exception.PriceNotFoundException;
 import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.example.pricing_service.infrastructure.sharding.ShardUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.stream.Collectors;
+
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(PriceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePriceNotFound(
             PriceNotFoundException ex,
@@ -24,7 +40,21 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return respond(HttpStatus.NOT_FOUND, error);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDateRange(
+            InvalidDateRangeException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "INVALID_DATE_RANGE",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return respond(HttpStatus.BAD_REQUEST, error);
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
@@ -38,7 +68,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return respond(HttpStatus.BAD_REQUEST, error);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -59,7 +89,67 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBody(
+            MethodArgumentNotValidException ex,
+            HttpServletRequest request) {
+
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> String.format("'%s' %s", fieldError.getField(), fieldError.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+
+        ErrorResponse error = ErrorResponse.of(
+                "INVALID_REQUEST",
+                message.isEmpty() ? "Request body is invalid" : message,
+                request.getRequestURI()
+        );
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "MALFORMED_REQUEST",
+                "Request body is missing or malformed",
+                request.getRequestURI()
+        );
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedMediaType(
+            HttpMediaTypeNotSupportedException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "UNSUPPORTED_MEDIA_TYPE",
+                String.format("Content type '%s' is not supported", ex.getContentType()),
+                request.getRequestURI()
+        );
+
+        return respond(HttpStatus.UNSUPPORTED_MEDIA_TYPE, error);
+    }
+
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleShardUnavailable(
+            ShardUnavailableException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.of(
+                "SHARD_UNAVAILABLE",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, error);
     }
 
     @ExceptionHandler(Exception.class)
@@ -73,6 +163,18 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, error);
+    }
+
+    /**
+     * Errors are always JSON, also for clients that asked for the binary price format.
+     */
+    private ResponseEntity<ErrorResponse> respond(HttpStatus status, ErrorResponse error) {
+        Counter.builder("pricing.errors")
+                .description("Error responses by error code")
+                .tag("code", error.code())
+                .register(meterRegistry)
+                .increment();
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 }
@@ -1,11 +1,82 @@
 package com.example.pricing_service.infrastructure.adapter.in.rest.mapper;
 
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceImportReport;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceSegment;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceImportResponse;
 import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceSegmentResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ShardPriceResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface PriceDtoMapper {
 
     PriceResponse toResponse(Price price);
-}
\ No newline at end of file
+
+    PriceQuery toQuery(PriceBatchRequest.Item item);
+
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "finalPrice", source = "price.finalPrice")
+    @Mapping(target = "currency", source = "price.currency")
+    PriceSegmentResponse toSegmentResponse(PriceSegment segment);
+
+    List<PriceQuery> toQueries(List<PriceBatchRequest.Item> items);
+
+    PriceBatchRequest.Item toItem(PriceQuery query);
+
+    List<PriceBatchRequest.Item> toItems(List<PriceQuery> queries);
+
+    @Mapping(target = "validUntil", ignore = true)
+    ShardPriceResponse toShardResponse(Price price);
+
+    @Mapping(target = ".", source = "price")
+    ShardPriceResponse toShardResponse(ApplicablePrice applicable);
+
+    Price toPrice(ShardPriceResponse response);
+
+    default ApplicablePrice toApplicablePrice(ShardPriceResponse response) {
+        return new ApplicablePrice(toPrice(response), response.validUntil());
+    }
+
+    default PriceBatchResponse toBatchResponse(List<PriceLookupResult> results) {
+        return new PriceBatchResponse(results.stream().map(this::toBatchResult).toList());
+    }
+
+    default PriceBatchResponse.Result toBatchResult(PriceLookupResult result) {
+        PriceQuery query = result.query();
+        if (result.isFound()) {
+            return new PriceBatchResponse.Result(
+                    query.applicationDate(), query.productId(), query.brandId(),
+                    PriceBatchResponse.Status.FOUND, toResponse(result.price()), null);
+        }
+        ErrorResponse error = ErrorResponse.builder()
+                .code("PRICE_NOT_FOUND")
+                .message(PriceNotFoundException.messageFor(query.productId(), query.brandId()))
+                .build();
+        return new PriceBatchResponse.Result(
+                query.applicationDate(), query.productId(), query.brandId(),
+                PriceBatchResponse.Status.NOT_FOUND, null, error);
+    }
+
+    default PriceImportResponse toImportResponse(PriceImportReport report) {
+        return new PriceImportResponse(
+                report.imported(),
+                report.rejected(),
+                report.elapsed().toMillis(),
+                report.rowsPerSecond(),
+                report.rejections().stream()
+                        .map(rejection -> new PriceImportResponse.Rejection(rejection.lineNumber(), rejection.reason()))
+                        .toList());
+    }
+}
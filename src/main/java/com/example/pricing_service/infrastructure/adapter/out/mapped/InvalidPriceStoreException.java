@@ -0,0 +1,13 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import java.nio.file.Path;
+
+/**
+ * Thrown when a mapped price store file is truncated, corrupted or written in another format version.
+ */
+public class InvalidPriceStoreException extends RuntimeException {
+
+    public InvalidPriceStoreException(Path file, String reason) {
+        super(String.format("Price store '%s' is invalid: %s", file, reason));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+/**
+ * Layout of a mapped price store file. All numbers are big-endian.
+ * <pre>
+ * header    (64 bytes)  magic, format version, key count, row count, export time,
+ *                       payload length, CRC32 of the rows and CRC32 of the directory
+ * rows      (56 bytes each)
+ *                       id, price list, start and end as epoch seconds (UTC), amount in hundredths,
+ *                       version, priority, ISO currency code; the rows of a product/brand are
+ *                       contiguous and sorted from the strongest to the weakest
+ * directory (24 bytes each)
+ *                       product id, brand id, first row and row count, sorted by product then brand
+ * </pre>
+ * The payload is everything after the header. Rows and directory entries have a fixed size, so any
+ * of them is read in place at a computed offset. The two checksums let the small directory be checked
+ * on open and the rows later.
+ */
+final class MappedPriceFormat {
+
+    /**
+     * {@code PRCSTORE} in ASCII.
+     */
+    static final long MAGIC = 0x50524353_544F5245L;
+    static final int FORMAT_VERSION = 2;
+
+    static final int HEADER_BYTES = 64;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 8;
+    static final int KEY_COUNT_OFFSET = 12;
+    static final int ROW_COUNT_OFFSET = 16;
+    static final int EXPORTED_AT_OFFSET = 24;
+    static final int PAYLOAD_BYTES_OFFSET = 32;
+    static final int ROWS_CHECKSUM_OFFSET = 40;
+    static final int DIRECTORY_CHECKSUM_OFFSET = 48;
+
+    static final int ROW_BYTES = 56;
+    static final int ROW_ID = 0;
+    static final int ROW_PRICE_LIST = 8;
+    static final int ROW_START = 16;
+    static final int ROW_END = 24;
+    static final int ROW_AMOUNT = 32;
+    static final int ROW_VERSION = 40;
+    static final int ROW_PRIORITY = 48;
+    static final int ROW_CURRENCY = 52;
+    static final int CURRENCY_BYTES = 3;
+
+    static final int ENTRY_BYTES = 24;
+    static final int ENTRY_PRODUCT = 0;
+    static final int ENTRY_BRAND = 8;
+    static final int ENTRY_FIRST_ROW = 16;
+    static final int ENTRY_ROW_COUNT = 20;
+
+    /**
+     * Stored in place of a missing id or version.
+     */
+    static final long NONE = Long.MIN_VALUE;
+
+    private MappedPriceFormat() {
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static com.example.pricing_service.domain.model.PriceUnits.*;
+import static com.example.pricing_service.infrastructure.adapter.out.mapped.MappedPriceFormat.*;
+
+/**
+ * A price store file mapped read-only into memory with {@link FileChannel#map}.
+ * <p>
+ * Opening a store validates the header and the directory checksum and nothing else: rows stay in the
+ * page cache, outside the heap, and are decoded only when a lookup returns them. Reading every row
+ * to check their checksum would make opening as slow as the file is large, so it is left to
+ * {@link #verifyRows()}, which the caller runs once the store is serving. A lookup is a
+ * binary search over the directory followed by a scan of the rows of one product/brand, which are
+ * stored from the strongest to the weakest, so the first applicable row is the winner.
+ * <p>
+ * Every read uses absolute offsets, so a store is safe to share between threads. The mapping is
+ * released when the store becomes unreachable; a single mapping limits a file to 2 GiB.
+ */
+public final class MappedPriceStore {
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int keyCount;
+    private final int rowCount;
+    private final int directoryOffset;
+    private final Instant exportedAt;
+
+    private MappedPriceStore(Path file, ByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES) {
+            throw new InvalidPriceStoreException(file, "shorter than the header");
+        }
+        if (buffer.getLong(MAGIC_OFFSET) != MAGIC) {
+            throw new InvalidPriceStoreException(file, "not a price store");
+        }
+        int version = buffer.getInt(VERSION_OFFSET);
+        if (version != FORMAT_VERSION) {
+            throw new InvalidPriceStoreException(file, "format version " + version + ", expected " + FORMAT_VERSION);
+        }
+        this.keyCount = buffer.getInt(KEY_COUNT_OFFSET);
+        this.rowCount = buffer.getInt(ROW_COUNT_OFFSET);
+        this.exportedAt = Instant.ofEpochMilli(buffer.getLong(EXPORTED_AT_OFFSET));
+        long payloadBytes = buffer.getLong(PAYLOAD_BYTES_OFFSET);
+        if (payloadBytes != buffer.capacity() - HEADER_BYTES
+                || payloadBytes != (long) rowCount * ROW_BYTES + (long) keyCount * ENTRY_BYTES) {
+            throw new InvalidPriceStoreException(file, "truncated or padded payload");
+        }
+        this.directoryOffset = HEADER_BYTES + rowCount * ROW_BYTES;
+        if (checksum(directoryOffset, keyCount * ENTRY_BYTES) != buffer.getLong(DIRECTORY_CHECKSUM_OFFSET)) {
+            throw new InvalidPriceStoreException(file, "directory checksum mismatch");
+        }
+    }
+
+    /**
+     * Maps and validates a store file.
+     *
+     * @throws InvalidPriceStoreException if the file is not a valid store of this format version
+     */
+    public static MappedPriceStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new InvalidPriceStoreException(file, "larger than a single mapping (" + size + " bytes)");
+            }
+            // The mapping outlives the channel
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new MappedPriceStore(file, mapped);
+        }
+    }
+
+    /**
+     * Checks the rows against their checksum, reading the whole row section once.
+     *
+     * @throws InvalidPriceStoreException if a row does not match
+     */
+    public void verifyRows() {
+        if (checksum(HEADER_BYTES, rowCount * ROW_BYTES) != buffer.getLong(ROWS_CHECKSUM_OFFSET)) {
+            throw new InvalidPriceStoreException(file, "row checksum mismatch");
+        }
+    }
+
+    /**
+     * Returns the winning price for the query, or empty when none applies.
+     */
+    public Optional<Price> find(PriceQuery query) {
+        int entry = entryOf(query.key());
+        if (entry < 0) {
+            return Optional.empty();
+        }
+        long startsBy = toEpochSecond(query.applicationDate());
+        long endsFrom = toEpochSecondRoundedUp(query.applicationDate());
+        int end = firstRow(entry) + rowCount(entry);
+        for (int row = firstRow(entry); row < end; row++) {
+            if (applies(row, startsBy, endsFrom)) {
+                return Optional.of(materialize(query.key(), row));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns every price that applies to the query, from the strongest to the weakest.
+     */
+    public List<Price> applicable(PriceQuery query) {
+        return rows(query.key(), toEpochSecond(query.applicationDate()), toEpochSecondRoundedUp(query.applicationDate()));
+    }
+
+    /**
+     * Returns every price of a product/brand, from the strongest to the weakest.
+     */
+    public List<Price> rows(PriceKey key) {
+        return rows(key, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the prices of a product/brand whose validity overlaps {@code [from, to]}.
+     */
+    public List<Price> overlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        return rows(key, toEpochSecond(to), toEpochSecondRoundedUp(from));
+    }
+
+    /**
+     * Same contract as {@link com.example.pricing_service.domain.port.out.PriceRepository#findNextOutrankingStart}.
+     */
+    public Optional<LocalDateTime> nextOutrankingStart(Price winner, LocalDateTime after) {
+        int entry = entryOf(PriceKey.of(winner));
+        if (entry < 0) {
+            return Optional.empty();
+        }
+        long afterSecond = toEpochSecond(after);
+        long untilSecond = toEpochSecond(winner.getEndDate());
+        long earliest = Long.MAX_VALUE;
+        int end = firstRow(entry) + rowCount(entry);
+        for (int row = firstRow(entry); row < end; row++) {
+            long start = buffer.getLong(rowOffset(row) + ROW_START);
+            if (buffer.getInt(rowOffset(row) + ROW_PRIORITY) >= winner.getPriority()
+                    && start > afterSecond && start <= untilSecond) {
+                earliest = Math.min(earliest, start);
+            }
+        }
+        return earliest == Long.MAX_VALUE ? Optional.empty() : Optional.of(toLocalDateTime(earliest));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long sizeBytes() {
+        return buffer.capacity();
+    }
+
+    public Instant exportedAt() {
+        return exportedAt;
+    }
+
+    /**
+     * Rows starting no later than {@code startsBy} and ending no earlier than {@code endsFrom}.
+     */
+    private List<Price> rows(PriceKey key, long startsBy, long endsFrom) {
+        int entry = entryOf(key);
+        if (entry < 0) {
+            return List.of();
+        }
+        List<Price> prices = new ArrayList<>(rowCount(entry));
+        int end = firstRow(entry) + rowCount(entry);
+        for (int row = firstRow(entry); row < end; row++) {
+            if (applies(row, startsBy, endsFrom)) {
+                prices.add(materialize(key, row));
+            }
+        }
+        return prices;
+    }
+
+    private long checksum(int offset, int length) {
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(offset, length));
+        return checksum.getValue();
+    }
+
+    private int entryOf(PriceKey key) {
+        long productId = key.productId();
+        long brandId = key.brandId();
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = entryOffset(middle);
+            int comparison = Long.compare(buffer.getLong(offset + ENTRY_PRODUCT), productId);
+            if (comparison == 0) {
+                comparison = Long.compare(buffer.getLong(offset + ENTRY_BRAND), brandId);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private boolean applies(int row, long startsBy, long endsFrom) {
+        int offset = rowOffset(row);
+        return buffer.getLong(offset + ROW_START) <= startsBy && buffer.getLong(offset + ROW_END) >= endsFrom;
+    }
+
+    private Price materialize(PriceKey key, int row) {
+        int offset = rowOffset(row);
+        long id = buffer.getLong(offset + ROW_ID);
+        long version = buffer.getLong(offset + ROW_VERSION);
+        byte[] currency = new byte[CURRENCY_BYTES];
+        buffer.get(offset + ROW_CURRENCY, currency);
+        return Price.builder()
+                .id(id == NONE ? null : id)
+                .brandId(key.brandId())
+                .productId(key.productId())
+                .priceList(buffer.getLong(offset + ROW_PRICE_LIST))
+                .priority(buffer.getInt(offset + ROW_PRIORITY))
+                .startDate(toLocalDateTime(buffer.getLong(offset + ROW_START)))
+                .endDate(toLocalDateTime(buffer.getLong(offset + ROW_END)))
+                .finalPrice(fromHundredths(buffer.getLong(offset + ROW_AMOUNT)))
+                .currency(new String(currency, StandardCharsets.US_ASCII))
+                .version(version == NONE ? null : version)
+                .build();
+    }
+
+    private int firstRow(int entry) {
+        return buffer.getInt(entryOffset(entry) + ENTRY_FIRST_ROW);
+    }
+
+    private int rowCount(int entry) {
+        return buffer.getInt(entryOffset(entry) + ENTRY_ROW_COUNT);
+    }
+
+    private int entryOffset(int entry) {
+        return directoryOffset + entry * ENTRY_BYTES;
+    }
+
+    private static int rowOffset(int row) {
+        return HEADER_BYTES + row * ROW_BYTES;
+    }
+}
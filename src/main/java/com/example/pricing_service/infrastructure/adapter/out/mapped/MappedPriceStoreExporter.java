@@ -0,0 +1,62 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+
+/**
+ * Writes the price store file of {@link PriceMappedAdapter} from the database and maps the result.
+ * <p>
+ * Rows are streamed through {@link PriceCatalogReader#forEachPrice}, so an export holds one
+ * product/brand at a time plus the directory, whatever the size of the catalogue.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "mapped")
+@RequiredArgsConstructor
+public class MappedPriceStoreExporter {
+
+    private final PriceCatalogReader catalogReader;
+    private final PriceMappedAdapter mappedAdapter;
+    private final PricingProperties properties;
+    private final Clock clock;
+
+    /**
+     * Exports the store when no valid file could be mapped at startup, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void exportIfMissing() {
+        if (mappedAdapter.currentStore().isEmpty() && properties.mappedStore().exportIfMissing()) {
+            export();
+        }
+    }
+
+    /**
+     * Rewrites the store file from the database and serves lookups from it.
+     *
+     * @return the store now being served
+     */
+    public synchronized MappedPriceStore export() {
+        long started = System.nanoTime();
+        int rows;
+        try (MappedPriceStoreWriter writer = MappedPriceStoreWriter.create(mappedAdapter.file())) {
+            catalogReader.forEachPrice(writer::add);
+            rows = writer.commit(clock.instant());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export price store " + mappedAdapter.file(), e);
+        }
+        log.info("Exported {} price rows to {} ({} ms)",
+                rows, mappedAdapter.file(), (System.nanoTime() - started) / 1_000_000);
+        mappedAdapter.reopen();
+        return mappedAdapter.currentStore().orElseThrow();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.example.pricing_service.domain.model.PriceUnits.*;
+import static com.example.pricing_service.infrastructure.adapter.out.mapped.MappedPriceFormat.*;
+
+/**
+ * Writes a mapped price store file in a single pass.
+ * <p>
+ * Rows must arrive grouped by product/brand, with the groups ordered by product and then by brand,
+ * as {@link com.example.pricing_service.domain.port.out.PriceCatalogReader#forEachPrice} delivers them.
+ * Only the rows of the current product/brand and the directory are held in memory. The file is
+ * written next to the target and moved over it by {@link #commit(Instant)}, so readers opening the
+ * target never see a partially written file.
+ */
+public final class MappedPriceStoreWriter implements Closeable {
+
+    private static final int STAGING_BYTES = 1 << 16;
+
+    /**
+     * From the strongest to the weakest row, so the first applicable row of a product/brand wins;
+     * ties go to the lowest id, as in {@link PriceTimeline}.
+     */
+    private static final Comparator<Price> STORED_ORDER = Price.PRIORITY_ORDER.reversed()
+            .thenComparing(price -> price.getId() == null ? NONE : price.getId());
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer staging = ByteBuffer.allocate(STAGING_BYTES);
+    private final CRC32 rowsChecksum = new CRC32();
+
+    private ByteBuffer directory = ByteBuffer.allocate(ENTRY_BYTES * 1024);
+    private final List<Price> group = new ArrayList<>();
+    private PriceKey groupKey;
+    private int rowCount;
+    private int keyCount;
+    private boolean committed;
+
+    private MappedPriceStoreWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.temporary = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+        Files.createDirectories(this.target.getParent());
+        this.channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        channel.position(HEADER_BYTES);
+    }
+
+    public static MappedPriceStoreWriter create(Path target) throws IOException {
+        return new MappedPriceStoreWriter(target);
+    }
+
+    /**
+     * Appends a row.
+     *
+     * @throws IllegalArgumentException if the row belongs to a product/brand that comes before the
+     *                                  current one, or that was already written
+     */
+    public void add(Price price) {
+        PriceKey key = PriceKey.of(price);
+        if (!key.equals(groupKey)) {
+            if (groupKey != null && compare(key, groupKey) < 0) {
+                throw new IllegalArgumentException("Rows must be ordered by product and brand, got " + key + " after " + groupKey);
+            }
+            writeGroup();
+            groupKey = key;
+        }
+        group.add(price);
+    }
+
+    /**
+     * Writes the directory and the header, flushes the file to disk and moves it over the target.
+     *
+     * @return the number of rows written
+     */
+    public int commit(Instant exportedAt) throws IOException {
+        writeGroup();
+        flush();
+        directory.flip();
+        CRC32 directoryChecksum = new CRC32();
+        directoryChecksum.update(directory.duplicate());
+        long payloadBytes = channel.position() - HEADER_BYTES + directory.remaining();
+        while (directory.hasRemaining()) {
+            channel.write(directory);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putLong(MAGIC_OFFSET, MAGIC)
+                .putInt(VERSION_OFFSET, FORMAT_VERSION)
+                .putInt(KEY_COUNT_OFFSET, keyCount)
+                .putInt(ROW_COUNT_OFFSET, rowCount)
+                .putLong(EXPORTED_AT_OFFSET, exportedAt.toEpochMilli())
+                .putLong(PAYLOAD_BYTES_OFFSET, payloadBytes)
+                .putLong(ROWS_CHECKSUM_OFFSET, rowsChecksum.getValue())
+                .putLong(DIRECTORY_CHECKSUM_OFFSET, directoryChecksum.getValue());
+        channel.write(header, 0);
+        channel.force(true);
+        channel.close();
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        return rowCount;
+    }
+
+    /**
+     * Discards the temporary file unless the store was committed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeGroup() {
+        if (group.isEmpty()) {
+            return;
+        }
+        group.sort(STORED_ORDER);
+        if (directory.remaining() < ENTRY_BYTES) {
+            directory = ByteBuffer.allocate(directory.capacity() * 2).put(directory.flip());
+        }
+        directory.putLong(groupKey.productId())
+                .putLong(groupKey.brandId())
+                .putInt(rowCount)
+                .putInt(group.size());
+        for (Price price : group) {
+            if (staging.remaining() < ROW_BYTES) {
+                flush();
+            }
+            putRow(price);
+        }
+        rowCount = Math.addExact(rowCount, group.size());
+        keyCount++;
+        group.clear();
+    }
+
+    private void putRow(Price price) {
+        byte[] currency = price.getCurrency().getBytes(StandardCharsets.US_ASCII);
+        if (currency.length != CURRENCY_BYTES) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code: " + price.getCurrency());
+        }
+        staging.putLong(price.getId() == null ? NONE : price.getId())
+                .putLong(price.getPriceList())
+                .putLong(toEpochSecond(price.getStartDate()))
+                .putLong(toEpochSecond(price.getEndDate()))
+                .putLong(toHundredths(price.getFinalPrice()))
+                .putLong(price.getVersion() == null ? NONE : price.getVersion())
+                .putInt(price.getPriority())
+                .put(currency)
+                .put((byte) 0);
+    }
+
+    private void flush() {
+        staging.flip();
+        rowsChecksum.update(staging.duplicate());
+        try {
+            while (staging.hasRemaining()) {
+                channel.write(staging);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        staging.clear();
+    }
+
+    private static int compare(PriceKey left, PriceKey right) {
+        int byProduct = Long.compare(left.productId(), right.productId());
+        return byProduct != 0 ? byProduct : Long.compare(left.brandId(), right.brandId());
+    }
+}
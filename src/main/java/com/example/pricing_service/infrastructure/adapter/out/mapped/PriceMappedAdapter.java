@@ -0,0 +1,164 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves lookups from a {@link MappedPriceStore} file, without touching the database or the heap.
+ * <p>
+ * The file is mapped when the bean is created, so lookups are served from it as soon as the
+ * application starts, however many rows it holds. The JPA adapter remains the source of truth: it
+ * serves queries while no valid file is open, and {@link MappedPriceStoreExporter} rewrites the file
+ * from the database. {@link #reopen()} maps the current file and swaps it in with a single reference
+ * update, so lookups never see a partially written store.
+ * <p>
+ * Opening only checks the header and the directory. The rows are checked on a background thread
+ * once the store is serving; if they do not match their checksum, the store is dropped and lookups go
+ * to the database until the file is exported again.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "mapped")
+public class PriceMappedAdapter implements PriceRepository, DisposableBean {
+
+    private final PriceJpaAdapter jpaAdapter;
+    private final Path file;
+    private final AtomicReference<MappedPriceStore> store = new AtomicReference<>();
+    private final ExecutorService verifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "price-store-verifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PriceMappedAdapter(PriceJpaAdapter jpaAdapter, PricingProperties properties) {
+        this.jpaAdapter = jpaAdapter;
+        this.file = Path.of(properties.mappedStore().file()).toAbsolutePath();
+        reopen();
+    }
+
+    /**
+     * Maps the store file and serves lookups from it. Keeps the current store, if any, when the file
+     * is missing or invalid.
+     *
+     * @return whether a valid file is now open
+     */
+    public boolean reopen() {
+        long started = System.nanoTime();
+        try {
+            MappedPriceStore next = MappedPriceStore.open(file);
+            store.set(next);
+            log.info("Mapped price store {} with {} rows in {} product/brand keys ({} ms)",
+                    file, next.rowCount(), next.keyCount(), (System.nanoTime() - started) / 1_000_000);
+            verifier.execute(() -> verify(next));
+            return true;
+        } catch (NoSuchFileException e) {
+            log.warn("Price store {} does not exist, lookups go to the database until it is exported", file);
+        } catch (IOException | InvalidPriceStoreException e) {
+            log.error("Failed to map price store {}, keeping the current one", file, e);
+        }
+        return store.get() != null;
+    }
+
+    private void verify(MappedPriceStore opened) {
+        long started = System.nanoTime();
+        try {
+            opened.verifyRows();
+            log.info("Verified the rows of price store {} ({} ms)", file, (System.nanoTime() - started) / 1_000_000);
+        } catch (InvalidPriceStoreException e) {
+            if (store.compareAndSet(opened, null)) {
+                log.error("Dropped price store {}, lookups go to the database until it is exported again", file, e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        verifier.shutdownNow();
+    }
+
+    public Optional<MappedPriceStore> currentStore() {
+        return Optional.ofNullable(store.get());
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    @Override
+    public List<Price> findByQuery(PriceQuery query) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findByQuery(query);
+        }
+        return current.applicable(query);
+    }
+
+    @Override
+    public Optional<Price> findApplicable(PriceQuery query) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findApplicable(query);
+        }
+        return current.find(query);
+    }
+
+    @Override
+    public List<Price> findByQueries(Collection<PriceQuery> queries) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findByQueries(queries);
+        }
+        return queries.stream()
+                .map(current::find)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public List<Price> findByKey(PriceKey key) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findByKey(key);
+        }
+        return current.rows(key);
+    }
+
+    @Override
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findOverlapping(key, from, to);
+        }
+        return current.overlapping(key, from, to);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after) {
+        MappedPriceStore current = store.get();
+        if (current == null) {
+            return jpaAdapter.findNextOutrankingStart(winner, after);
+        }
+        return current.nextOutrankingStart(winner, after);
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.pricing_service.infrastructure.adapter.out.memory;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceTimeline;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Serves lookups from a {@link PriceSnapshot} built from the JPA store, without touching the database.
+ * <p>
+ * The JPA adapter remains the source of truth: the first snapshot is loaded from it once the
+ * application is ready, and queries are delegated to it until then. {@link #reload()} builds the next
+ * snapshot on a background thread while lookups keep reading the current one, then publishes it with
+ * a single reference swap. Readers never lock and never see a partially built snapshot.
+ * <p>
+ * Single-row changes ({@link #upsert(Price)}, {@link #remove(PriceKey, long)}) are applied to the
+ * current snapshot by recompiling only the affected product/brand timeline. Changes applied while a
+ * reload is running are replayed on the new snapshot before it is published, so none is lost.
+ * <p>
+ * The index is built on a dedicated {@link ForkJoinPool} sized by {@code pricing.repository.rebuild-parallelism},
+ * so a full rebuild after a bulk import uses every configured core without competing with the common pool.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "in-memory")
+public class PriceInMemoryAdapter implements PriceRepository, DisposableBean {
+
+    private final PriceJpaAdapter jpaAdapter;
+    private final Clock clock;
+
+    private final AtomicReference<PriceSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<PriceSnapshot>> queuedReload = new AtomicReference<>();
+    private final AtomicInteger pendingReloads = new AtomicInteger();
+    private final Object changeLock = new Object();
+    // Changes applied since the running reload started reading rows; null when no reload is running
+    private List<Consumer<PriceIndex>> changesDuringReload;
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "price-snapshot-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ForkJoinPool rebuildPool;
+
+    public PriceInMemoryAdapter(PriceJpaAdapter jpaAdapter, Clock clock, PricingProperties properties) {
+        this.jpaAdapter = jpaAdapter;
+        this.clock = clock;
+        int parallelism = properties.repository().rebuildParallelism();
+        this.rebuildPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("price-index-builder-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null, false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload().join();
+    }
+
+    /**
+     * Rebuilds the snapshot from the database in the background. The returned future completes with
+     * the published snapshot. Requests made while a reload is waiting to start share that reload;
+     * a request made while a reload is running queues a new one, so its result always reflects rows
+     * committed before the request.
+     */
+    public CompletableFuture<PriceSnapshot> reload() {
+        CompletableFuture<PriceSnapshot> reload = new CompletableFuture<>();
+        CompletableFuture<PriceSnapshot> queued = queuedReload.compareAndExchange(null, reload);
+        if (queued != null) {
+            return queued;
+        }
+        pendingReloads.incrementAndGet();
+        loader.execute(() -> {
+            queuedReload.compareAndSet(reload, null);
+            // The pending count drops before the future completes, so callers joining it see the final state
+            try {
+                PriceSnapshot next = publishNextSnapshot();
+                pendingReloads.decrementAndGet();
+                reload.complete(next);
+            } catch (RuntimeException e) {
+                pendingReloads.decrementAndGet();
+                log.error("Failed to rebuild the in-memory price snapshot, keeping the current one", e);
+                reload.completeExceptionally(e);
+            }
+        });
+        return reload;
+    }
+
+    public Optional<PriceSnapshot> currentSnapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    /**
+     * Returns whether a reload is queued or running.
+     */
+    public boolean isReloading() {
+        return pendingReloads.get() > 0;
+    }
+
+    /**
+     * Adds or replaces a price row in the current snapshot.
+     */
+    public void upsert(Price price) {
+        applyChange(index -> index.upsert(price));
+    }
+
+    /**
+     * Removes a price row from the current snapshot.
+     */
+    public void remove(PriceKey key, long id) {
+        applyChange(index -> index.remove(key, id));
+    }
+
+    private void applyChange(Consumer<PriceIndex> change) {
+        synchronized (changeLock) {
+            PriceSnapshot current = snapshot.get();
+            if (current != null) {
+                change.accept(current.index());
+            }
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        }
+    }
+
+    private PriceSnapshot publishNextSnapshot() {
+        long started = System.nanoTime();
+        synchronized (changeLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+        List<Price> rows;
+        PriceIndex index;
+        try {
+            rows = jpaAdapter.findAll();
+            index = PriceIndex.build(rows, rebuildPool);
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changesDuringReload = null;
+            }
+            throw e;
+        }
+        PriceSnapshot next;
+        synchronized (changeLock) {
+            // Upserts and removals by id are idempotent, so replaying one the rows already include is harmless
+            changesDuringReload.forEach(change -> change.accept(index));
+            changesDuringReload = null;
+            PriceSnapshot current = snapshot.get();
+            next = new PriceSnapshot(
+                    current == null ? 1 : current.version() + 1,
+                    index,
+                    rows.size(),
+                    clock.instant(),
+                    Duration.ofNanos(System.nanoTime() - started));
+            snapshot.set(next);
+        }
+        log.info("Published in-memory price snapshot v{} with {} rows in {} product/brand timelines ({} ms, {} builder threads)",
+                next.version(), next.rowCount(), index.size(), next.buildTime().toMillis(), rebuildPool.getParallelism());
+        int skipped = index.skippedRowCount();
+        if (skipped > 0) {
+            log.warn("Left {} price rows out of snapshot v{} because their endDate is before their startDate",
+                    skipped, next.version());
+        }
+        return next;
+    }
+
+    @Override
+    public void destroy() {
+        loader.shutdownNow();
+        rebuildPool.shutdownNow();
+    }
+
+    @Override
+    public List<Price> findByQuery(PriceQuery query) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findByQuery(query);
+        }
+        return current.index().find(query).map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public Optional<Price> findApplicable(PriceQuery query) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findApplicable(query);
+        }
+        return current.index().find(query);
+    }
+
+    @Override
+    public List<Price> findByQueries(Collection<PriceQuery> queries) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findByQueries(queries);
+        }
+        return queries.stream()
+                .map(current.index()::find)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public List<Price> findByKey(PriceKey key) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findByKey(key);
+        }
+        return current.index().timeline(key).map(PriceTimeline::winners).orElse(List.of());
+    }
+
+    @Override
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findOverlapping(key, from, to);
+        }
+        return current.index().timeline(key)
+                .map(timeline -> timeline.winners().stream()
+                        .filter(price -> !price.getStartDate().isAfter(to) && !price.getEndDate().isBefore(from))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    /**
+     * The timeline already knows where the current segment ends; a boundary before the end date of
+     * {@code winner} can only be the start of a price that outranks it.
+     */
+    @Override
+    public Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after) {
+        PriceSnapshot current = snapshot.get();
+        if (current == null) {
+            return jpaAdapter.findNextOutrankingStart(winner, after);
+        }
+        return current.index().timeline(PriceKey.of(winner))
+                .flatMap(timeline -> timeline.nextBoundaryAfter(after))
+                .filter(boundary -> !boundary.isAfter(winner.getEndDate()));
+    }
+}
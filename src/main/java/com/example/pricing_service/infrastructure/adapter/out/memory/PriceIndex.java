@@ -0,0 +1,193 @@
+package com.example.pricing_service.infrastructure.adapter.out.memory;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceTimeline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+/**
+ * Index of compiled {@link PriceTimeline}s keyed by product/brand.
+ * <p>
+ * Timelines are immutable. A row change recompiles the timeline of its own product/brand and
+ * replaces it atomically, so lookups never lock and never see a half-applied change.
+ */
+public final class PriceIndex {
+
+    private static final int PARALLEL_THRESHOLD = 10_000;
+    private static final int SLICES_PER_WORKER = 4;
+    private static final int MIN_SLICE_ROWS = 1_000;
+    private static final int BUCKETS_PER_WORKER = 16;
+
+    private final Map<PriceKey, PriceTimeline> timelines;
+
+    private PriceIndex(Map<PriceKey, PriceTimeline> timelines) {
+        this.timelines = timelines;
+    }
+
+    public static PriceIndex build(Collection<Price> rows) {
+        Map<PriceKey, List<Price>> partitions = rows.stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+        Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>(partitions.size() * 4 / 3 + 1);
+        partitions.forEach((key, partition) -> timelines.put(key, PriceTimeline.compile(partition)));
+        return new PriceIndex(timelines);
+    }
+
+    /**
+     * Builds the same index as {@link #build(Collection)} with the work spread over {@code pool}.
+     * <p>
+     * Rows are first scattered, slice by slice, into buckets by product/brand hash; every
+     * product/brand then lives in exactly one bucket, so buckets are grouped and compiled
+     * independently, each into the shared map, with no coordination beyond the map itself.
+     */
+    public static PriceIndex build(Collection<Price> rows, ForkJoinPool pool) {
+        Price[] all = rows.toArray(Price[]::new);
+        int parallelism = pool.getParallelism();
+        if (parallelism == 1 || all.length < PARALLEL_THRESHOLD) {
+            return build(rows);
+        }
+        int slices = Math.min(parallelism * SLICES_PER_WORKER, all.length / MIN_SLICE_ROWS + 1);
+        int buckets = parallelism * BUCKETS_PER_WORKER;
+        @SuppressWarnings("unchecked")
+        List<Price>[][] scattered = new List[slices][];
+        pool.invoke(new Scatter(all, scattered, buckets, 0, slices));
+
+        // Expected rows per product/brand are low single digits; presizing avoids resizes under contention
+        Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>(all.length * 4 / 3 + 1, 0.75f, parallelism);
+        pool.invoke(new Compile(scattered, timelines, 0, buckets));
+        return new PriceIndex(timelines);
+    }
+
+    public Optional<Price> find(PriceQuery query) {
+        PriceTimeline timeline = timelines.get(query.key());
+        return timeline == null ? Optional.empty() : timeline.priceAt(query.applicationDate());
+    }
+
+    public Optional<PriceTimeline> timeline(PriceKey key) {
+        return Optional.ofNullable(timelines.get(key));
+    }
+
+    /**
+     * Adds a row, or replaces the row with the same id, recompiling only its product/brand timeline.
+     */
+    public void upsert(Price price) {
+        timelines.compute(PriceKey.of(price), (key, timeline) -> timeline == null
+                ? PriceTimeline.compile(List.of(price))
+                : timeline.with(price));
+    }
+
+    /**
+     * Removes the row with the given id from a product/brand timeline, if present.
+     */
+    public void remove(PriceKey key, long id) {
+        timelines.computeIfPresent(key, (ignored, timeline) -> {
+            PriceTimeline remaining = timeline.without(id);
+            return remaining.rowCount() == 0 ? null : remaining;
+        });
+    }
+
+    public int size() {
+        return timelines.size();
+    }
+
+    /**
+     * Returns the number of rows left out of the timelines because they end before they start.
+     */
+    public int skippedRowCount() {
+        return timelines.values().stream().mapToInt(PriceTimeline::skippedRowCount).sum();
+    }
+
+    private static int bucketOf(PriceKey key, int buckets) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), buckets);
+    }
+
+    /**
+     * Splits the slice range in halves down to single slices, each scattering its rows into buckets.
+     */
+    private static final class Scatter extends RecursiveAction {
+
+        private final Price[] rows;
+        private final List<Price>[][] scattered;
+        private final int buckets;
+        private final int fromSlice;
+        private final int toSlice;
+
+        Scatter(Price[] rows, List<Price>[][] scattered, int buckets, int fromSlice, int toSlice) {
+            this.rows = rows;
+            this.scattered = scattered;
+            this.buckets = buckets;
+            this.fromSlice = fromSlice;
+            this.toSlice = toSlice;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSlice - fromSlice > 1) {
+                int middle = (fromSlice + toSlice) >>> 1;
+                invokeAll(new Scatter(rows, scattered, buckets, fromSlice, middle),
+                        new Scatter(rows, scattered, buckets, middle, toSlice));
+                return;
+            }
+            int slices = scattered.length;
+            int from = (int) ((long) rows.length * fromSlice / slices);
+            int to = (int) ((long) rows.length * toSlice / slices);
+            @SuppressWarnings("unchecked")
+            List<Price>[] slice = new List[buckets];
+            int expected = (to - from) / buckets + 1;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                slice[bucket] = new ArrayList<>(expected);
+            }
+            for (int row = from; row < to; row++) {
+                slice[bucketOf(PriceKey.of(rows[row]), buckets)].add(rows[row]);
+            }
+            scattered[fromSlice] = slice;
+        }
+    }
+
+    /**
+     * Splits the bucket range in halves down to single buckets, each grouping the rows every slice
+     * scattered into it and compiling one timeline per product/brand.
+     */
+    private static final class Compile extends RecursiveAction {
+
+        private final List<Price>[][] scattered;
+        private final Map<PriceKey, PriceTimeline> timelines;
+        private final int fromBucket;
+        private final int toBucket;
+
+        Compile(List<Price>[][] scattered, Map<PriceKey, PriceTimeline> timelines, int fromBucket, int toBucket) {
+            this.scattered = scattered;
+            this.timelines = timelines;
+            this.fromBucket = fromBucket;
+            this.toBucket = toBucket;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBucket - fromBucket > 1) {
+                int middle = (fromBucket + toBucket) >>> 1;
+                invokeAll(new Compile(scattered, timelines, fromBucket, middle),
+                        new Compile(scattered, timelines, middle, toBucket));
+                return;
+            }
+            Map<PriceKey, List<Price>> partitions = new HashMap<>();
+            for (List<Price>[] slice : scattered) {
+                for (Price price : slice[fromBucket]) {
+                    partitions.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>(2)).add(price);
+                }
+            }
+            partitions.forEach((key, partition) -> timelines.put(key, PriceTimeline.compile(partition)));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.pricing_service.infrastructure.adapter.out.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * One generation of the in-memory price data. A snapshot is fully built before it is published;
+ * afterwards only single-row changes touch it, each replacing one immutable timeline atomically.
+ *
+ * @param version   increases by one with every published snapshot, starting at 1
+ * @param index     the compiled timelines
+ * @param rowCount  number of price rows the snapshot was built from, before any single-row change
+ * @param builtAt   when the snapshot was published
+ * @param buildTime time spent reading the rows and compiling the index
+ */
+public record PriceSnapshot(long version, PriceIndex index, int rowCount, Instant builtAt, Duration buildTime) {
+}
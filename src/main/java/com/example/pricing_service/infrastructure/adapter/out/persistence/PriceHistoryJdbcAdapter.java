@@ -0,0 +1,98 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.port.out.PriceHistoryRepository;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends price row versions to {@code price_history} and answers as-of lookups from it.
+ * <p>
+ * Writers call {@link #record} inside the transaction of the change, so a version is recorded exactly
+ * when the change commits. The transaction time is the clock reading at the time of the write. History
+ * is only read by queries carrying an {@code asOf}; lookups of current prices never touch it.
+ */
+@Component
+public class PriceHistoryJdbcAdapter implements PriceHistoryRepository {
+
+    static final String INSERT_SQL = """
+            INSERT INTO price_history (price_id, brand_id, product_id, price_list, priority, start_date, end_date,
+                                       price, curr, version, operation, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * The latest version of each row is the one with the highest history id among those recorded by
+     * the transaction time; a row whose latest version is a deletion no longer existed then.
+     */
+    static final String AS_OF_SQL = """
+            SELECT h.price_id, h.brand_id, h.product_id, h.price_list, h.priority, h.start_date, h.end_date,
+                   h.price, h.curr, h.version
+            FROM price_history h
+            WHERE h.product_id = ? AND h.brand_id = ? AND h.recorded_at <= ?
+              AND h.history_id = (SELECT MAX(v.history_id) FROM price_history v
+                                  WHERE v.price_id = h.price_id AND v.recorded_at <= ?)
+              AND h.operation <> 'DELETED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public PriceHistoryJdbcAdapter(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Appends one version per price, all recorded at the same transaction time. Prices must carry
+     * their id.
+     */
+    public void record(PriceChangeEvent.Kind operation, List<Price> prices) {
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(INSERT_SQL, prices, prices.size(), (statement, price) -> {
+            statement.setLong(1, price.getId());
+            statement.setLong(2, price.getBrandId());
+            statement.setLong(3, price.getProductId());
+            statement.setLong(4, price.getPriceList());
+            statement.setInt(5, price.getPriority());
+            statement.setTimestamp(6, Timestamp.valueOf(price.getStartDate()));
+            statement.setTimestamp(7, Timestamp.valueOf(price.getEndDate()));
+            statement.setBigDecimal(8, price.getFinalPrice());
+            statement.setString(9, price.getCurrency());
+            statement.setLong(10, price.getVersion() == null ? 0 : price.getVersion());
+            statement.setString(11, operation.name());
+            statement.setTimestamp(12, recordedAt);
+        });
+    }
+
+    @Override
+    public List<Price> findAsOf(PriceKey key, LocalDateTime asOf) {
+        Timestamp at = Timestamp.valueOf(asOf);
+        return jdbcTemplate.query(AS_OF_SQL, (resultSet, row) -> toPrice(resultSet),
+                key.productId(), key.brandId(), at, at);
+    }
+
+    private static Price toPrice(ResultSet resultSet) throws SQLException {
+        return Price.builder()
+                .id(resultSet.getLong("price_id"))
+                .brandId(resultSet.getLong("brand_id"))
+                .productId(resultSet.getLong("product_id"))
+                .priceList(resultSet.getLong("price_list"))
+                .priority(resultSet.getInt("priority"))
+                .startDate(resultSet.getTimestamp("start_date").toLocalDateTime())
+                .endDate(resultSet.getTimestamp("end_date").toLocalDateTime())
+                .finalPrice(resultSet.getBigDecimal("price"))
+                .currency(resultSet.getString("curr"))
+                .version(resultSet.getLong("version"))
+                .build();
+    }
+}
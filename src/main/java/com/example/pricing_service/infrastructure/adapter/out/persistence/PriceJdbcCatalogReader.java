@@ -0,0 +1,121 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceBoundary;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads a brand catalogue through a forward-only JDBC cursor. Rows are mapped and handed over one at
+ * a time while the driver fetches them in blocks of {@link #FETCH_SIZE}, so memory use does not
+ * depend on the number of rows.
+ */
+@Component
+public class PriceJdbcCatalogReader implements PriceCatalogReader {
+
+    static final int FETCH_SIZE = 1000;
+
+    static final String APPLICABLE_SQL = """
+            SELECT id, brand_id, product_id, price_list, priority, start_date, end_date, price, curr, version
+            FROM prices
+            WHERE brand_id = ? AND start_date <= ? AND end_date >= ?
+            ORDER BY product_id, priority DESC, start_date DESC, id
+            """;
+
+    static final String ALL_SQL = """
+            SELECT id, brand_id, product_id, price_list, priority, start_date, end_date, price, curr, version
+            FROM prices
+            ORDER BY product_id, brand_id
+            """;
+
+    /**
+     * A price stops applying the second after its end date; the caller shifts the end window by one
+     * second and the mapping adds it back. Ordering ends after starts of the same stored date keeps
+     * the rows in boundary order once that second is added, dates being whole seconds.
+     */
+    static final String BOUNDARIES_SQL = """
+            SELECT brand_id, product_id, start_date AS boundary, 0 AS ended
+            FROM prices
+            WHERE start_date > ? AND start_date <= ?
+            UNION
+            SELECT brand_id, product_id, end_date AS boundary, 1 AS ended
+            FROM prices
+            WHERE end_date > ? AND end_date <= ?
+            ORDER BY boundary, ended
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PriceJdbcCatalogReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Runs in a read-only transaction: some drivers (PostgreSQL among them) only honour the fetch size,
+     * instead of materializing the whole result, when auto-commit is off.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachApplicable(Long brandId, LocalDateTime instant, Consumer<Price> consumer) {
+        Timestamp at = Timestamp.valueOf(instant);
+        jdbcTemplate.query(APPLICABLE_SQL, resultSet -> {
+            consumer.accept(toPrice(resultSet));
+        }, brandId, at, at);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPrice(Consumer<Price> consumer) {
+        jdbcTemplate.query(ALL_SQL, resultSet -> {
+            consumer.accept(toPrice(resultSet));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachBoundary(LocalDateTime from, LocalDateTime to, Consumer<PriceBoundary> consumer) {
+        Set<PriceBoundary> seen = new HashSet<>();
+        jdbcTemplate.query(BOUNDARIES_SQL, resultSet -> {
+            LocalDateTime at = resultSet.getTimestamp("boundary").toLocalDateTime()
+                    .plusSeconds(resultSet.getInt("ended"));
+            PriceBoundary boundary = new PriceBoundary(
+                    new PriceKey(resultSet.getLong("brand_id"), resultSet.getLong("product_id")), at);
+            // Rows come ordered by time, so duplicates of a boundary are adjacent to it
+            if (!seen.isEmpty() && !seen.iterator().next().at().equals(at)) {
+                seen.clear();
+            }
+            if (seen.add(boundary)) {
+                consumer.accept(boundary);
+            }
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to),
+                Timestamp.valueOf(from.minusSeconds(1)), Timestamp.valueOf(to.minusSeconds(1)));
+    }
+
+    private static Price toPrice(ResultSet resultSet) throws SQLException {
+        return Price.builder()
+                .id(resultSet.getLong("id"))
+                .brandId(resultSet.getLong("brand_id"))
+                .productId(resultSet.getLong("product_id"))
+                .priceList(resultSet.getLong("price_list"))
+                .priority(resultSet.getInt("priority"))
+                .startDate(resultSet.getTimestamp("start_date").toLocalDateTime())
+                .endDate(resultSet.getTimestamp("end_date").toLocalDateTime())
+                .finalPrice(resultSet.getBigDecimal("price"))
+                .currency(resultSet.getString("curr"))
+                .version(resultSet.getLong("version"))
+                .build();
+    }
+}
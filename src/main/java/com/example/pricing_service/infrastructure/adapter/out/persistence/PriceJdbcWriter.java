@@ -0,0 +1,94 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.port.out.PriceWriter;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeCapture;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes prices with JDBC batch inserts. Going through JPA would keep every inserted entity in the
+ * persistence context and, with identity ids, issue one insert statement per row.
+ * <p>
+ * These inserts bypass the JPA entity listeners, so the writer reads back the generated ids and
+ * appends the new rows to the price history itself, in the same transaction, and records them for the
+ * change feed when it is enabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceJdbcWriter implements PriceWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceHistoryJdbcAdapter history;
+    private final ObjectProvider<PriceChangeCapture> changeCapture;
+
+    @Override
+    @Transactional
+    public void saveAll(List<Price> prices) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int row) throws SQLException {
+                        bind(statement, prices.get(row));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return prices.size();
+                    }
+                },
+                keys);
+        List<Map<String, Object>> ids = keys.getKeyList();
+        List<Price> inserted = new ArrayList<>(prices.size());
+        for (int row = 0; row < prices.size(); row++) {
+            Price price = prices.get(row);
+            inserted.add(Price.builder()
+                    .id(((Number) ids.get(row).values().iterator().next()).longValue())
+                    .brandId(price.getBrandId())
+                    .productId(price.getProductId())
+                    .priceList(price.getPriceList())
+                    .priority(price.getPriority())
+                    .startDate(price.getStartDate())
+                    .endDate(price.getEndDate())
+                    .finalPrice(price.getFinalPrice())
+                    .currency(price.getCurrency())
+                    .version(0L)
+                    .build());
+        }
+        history.record(PriceChangeEvent.Kind.CREATED, inserted);
+        changeCapture.ifAvailable(capture ->
+                inserted.forEach(price -> capture.record(PriceChangeEvent.Kind.CREATED, price)));
+    }
+
+    private static void bind(PreparedStatement statement, Price price) throws SQLException {
+        statement.setLong(1, price.getBrandId());
+        statement.setTimestamp(2, Timestamp.valueOf(price.getStartDate()));
+        statement.setTimestamp(3, Timestamp.valueOf(price.getEndDate()));
+        statement.setLong(4, price.getPriceList());
+        statement.setLong(5, price.getProductId());
+        statement.setInt(6, price.getPriority());
+        statement.setBigDecimal(7, price.getFinalPrice());
+        statement.setString(8, price.getCurrency());
+    }
+}
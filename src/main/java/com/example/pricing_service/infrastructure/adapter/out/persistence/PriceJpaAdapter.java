@@ -1,31 +1,172 @@
 package com.example.pricing_service.infrastructure.adapter.out.persistence;
 
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
 import com.example.pricing_service.domain.model.PriceQuery;
 import com.example.pricing_service.domain.port.out.PriceRepository;
 import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
 import com.example.pricing_service.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
 import com.example.pricing_service.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class PriceJpaAdapter implements PriceRepository {
 
+    /**
+     * Upper bound for the number of values bound to a single {@code IN} clause.
+     */
+    static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     private final PriceJpaRepository jpaRepository;
     private final PriceEntityMapper mapper;
+    private final QueryMeters findByQueryMeters;
+    private final QueryMeters findApplicableMeters;
+    private final QueryMeters findByQueriesMeters;
+    private final QueryMeters findByKeyMeters;
+    private final QueryMeters findOverlappingMeters;
+    private final QueryMeters findNextOutrankingStartMeters;
+
+    public PriceJpaAdapter(PriceJpaRepository jpaRepository, PriceEntityMapper mapper, MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.findByQueryMeters = new QueryMeters(meterRegistry, "findByQuery");
+        this.findApplicableMeters = new QueryMeters(meterRegistry, "findApplicable");
+        this.findByQueriesMeters = new QueryMeters(meterRegistry, "findByQueries");
+        this.findByKeyMeters = new QueryMeters(meterRegistry, "findByKey");
+        this.findOverlappingMeters = new QueryMeters(meterRegistry, "findOverlapping");
+        this.findNextOutrankingStartMeters = new QueryMeters(meterRegistry, "findNextOutrankingStart");
+    }
 
     @Override
     public List<Price> findByQuery(PriceQuery query) {
-        List<PriceEntity> entities = jpaRepository.findApplicablePrices(
+        return findByQueryMeters.record(() -> mapper.toDomainList(jpaRepository.findApplicablePrices(
                 query.productId(),
                 query.brandId(),
                 query.applicationDate()
-        );
+        )), List::size);
+    }
+
+    @Override
+    public Optional<Price> findApplicable(PriceQuery query) {
+        return findApplicableMeters.record(() -> jpaRepository.findApplicablePriceViews(
+                        query.productId(),
+                        query.brandId(),
+                        query.applicationDate(),
+                        Limit.of(1))
+                .stream()
+                .findFirst()
+                .map(mapper::toDomain), price -> price.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public List<Price> findByQueries(Collection<PriceQuery> queries) {
+        return findByQueriesMeters.record(() -> findCandidates(queries), List::size);
+    }
+
+    private List<Price> findCandidates(Collection<PriceQuery> queries) {
+        List<PriceEntity> entities = new ArrayList<>();
+        Map<Long, List<PriceQuery>> queriesByBrand = queries.stream()
+                .collect(Collectors.groupingBy(PriceQuery::brandId));
+
+        queriesByBrand.forEach((brandId, brandQueries) -> {
+            LocalDateTime from = brandQueries.stream()
+                    .map(PriceQuery::applicationDate)
+                    .min(Comparator.naturalOrder())
+                    .orElseThrow();
+            LocalDateTime to = brandQueries.stream()
+                    .map(PriceQuery::applicationDate)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+            List<Long> productIds = brandQueries.stream()
+                    .map(PriceQuery::productId)
+                    .distinct()
+                    .toList();
+
+            for (int i = 0; i < productIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+                List<Long> chunk = productIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, productIds.size()));
+                entities.addAll(jpaRepository.findCandidatePrices(brandId, chunk, from, to));
+            }
+        });
         return mapper.toDomainList(entities);
     }
+
+    @Override
+    public List<Price> findByKey(PriceKey key) {
+        return findByKeyMeters.record(() -> mapper.toDomainList(
+                jpaRepository.findByBrandIdAndProductId(key.brandId(), key.productId())), List::size);
+    }
+
+    @Override
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        return findOverlappingMeters.record(() -> mapper.toDomainList(
+                jpaRepository.findCandidatePrices(key.brandId(), List.of(key.productId()), from, to)), List::size);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after) {
+        return findNextOutrankingStartMeters.record(() -> jpaRepository.findNextOutrankingStart(
+                winner.getProductId(),
+                winner.getBrandId(),
+                winner.getPriority(),
+                after,
+                winner.getEndDate()), start -> start.isPresent() ? 1 : 0);
+    }
+
+    public List<Price> findAll() {
+        return mapper.toDomainList(jpaRepository.findAll());
+    }
+
+    /**
+     * Current content of the rows with the given ids; rows that no longer exist are left out.
+     */
+    public List<Price> findAllById(Collection<Long> ids) {
+        List<Long> all = List.copyOf(ids);
+        List<Price> rows = new ArrayList<>(all.size());
+        for (int i = 0; i < all.size(); i += MAX_IN_CLAUSE_SIZE) {
+            rows.addAll(mapper.toDomainList(
+                    jpaRepository.findAllById(all.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, all.size())))));
+        }
+        return rows;
+    }
+
+    /**
+     * Latency and returned row count of one repository method, tagged with the method name.
+     */
+    private static final class QueryMeters {
+
+        private final Timer latency;
+        private final DistributionSummary rows;
+
+        QueryMeters(MeterRegistry meterRegistry, String method) {
+            this.latency = Timer.builder("pricing.repository.query")
+                    .description("Time spent querying and mapping prices")
+                    .tag("method", method)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("pricing.repository.rows")
+                    .description("Price rows returned per query")
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        <T> T record(Supplier<T> query, ToIntFunction<T> rowCount) {
+            T result = latency.record(query);
+            rows.record(rowCount.applyAsInt(result));
+            return result;
+        }
+    }
 }
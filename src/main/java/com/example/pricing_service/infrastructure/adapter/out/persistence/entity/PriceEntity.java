@@ -1,22 +1,29 @@
 package com.example.pricing_service.infrastructure.adapter.out.persistence.entity;
 
+import com.example.pricing_service.domain.model.PriceKey;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "prices")
+@Table(name = "prices", indexes = {
+        // Lookup columns first so range scans seek by product/brand; the trailing columns make the
+        // index covering, so applicable-price queries are answered without touching the table rows.
+        @Index(name = PriceEntity.LOOKUP_INDEX,
+                columnList = "product_id, brand_id, start_date, end_date, priority, price_list, price, curr, version")
+})
+@EntityListeners(PriceEntityChangeListener.class)
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class PriceEntity {
 
+    public static final String LOOKUP_INDEX = "idx_prices_lookup";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,4 +51,39 @@ public class PriceEntity {
 
     @Column(name = "curr", nullable = false, length = 3)
     private String currency;
+
+    /**
+     * Bumped on every update, so {@code (id, version)} identifies the content of a row.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Product/brand of the row as loaded from the database, so an update that moves the row to another
+     * product/brand can tell which one it left. Not set on rows that were never loaded.
+     */
+    @Transient
+    private PriceKey loadedKey;
+
+    @Builder
+    public PriceEntity(Long id, Long brandId, LocalDateTime startDate, LocalDateTime endDate, Long priceList,
+                       Long productId, Integer priority, BigDecimal price, String currency, Long version) {
+        this.id = id;
+        this.brandId = brandId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.priceList = priceList;
+        this.productId = productId;
+        this.priority = priority;
+        this.price = price;
+        this.currency = currency;
+        this.version = version;
+    }
+
+    @PostLoad
+    void rememberLoadedKey() {
+        loadedKey = new PriceKey(brandId, productId);
+    }
 }
\ No newline at end of file
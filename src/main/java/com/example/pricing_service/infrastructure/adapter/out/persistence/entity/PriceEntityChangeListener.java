@@ -0,0 +1,64 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence.entity;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceHistoryJdbcAdapter;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeCapture;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Appends writes made through JPA to the price history and feeds them to the change feed, when it is
+ * enabled. Hibernate obtains this listener from the Spring context; the callbacks run at flush time,
+ * so the history row joins the transaction of the change, and the capture holds the changes back
+ * until the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceEntityChangeListener {
+
+    private final ObjectProvider<PriceChangeCapture> changeCapture;
+    // Looked up on first use: the JDBC template it needs is only created after the entity manager factory
+    private final ObjectProvider<PriceHistoryJdbcAdapter> history;
+    private final PriceEntityMapper mapper;
+
+    @PostPersist
+    public void created(PriceEntity entity) {
+        record(PriceChangeEvent.Kind.CREATED, entity);
+        entity.rememberLoadedKey();
+    }
+
+    /**
+     * An update may move the row to another product/brand; the key it was loaded with is reported
+     * along, so listeners drop it from there too. The loaded key is then reset, so a later update in
+     * the same persistence context reports the key this one left the row in.
+     */
+    @PostUpdate
+    public void updated(PriceEntity entity) {
+        Price price = mapper.toDomain(entity);
+        PriceKey loadedKey = entity.getLoadedKey();
+        PriceKey previousKey = loadedKey == null || loadedKey.equals(PriceKey.of(price)) ? null : loadedKey;
+        history.getObject().record(PriceChangeEvent.Kind.UPDATED, List.of(price));
+        changeCapture.ifAvailable(capture -> capture.record(PriceChangeEvent.Kind.UPDATED, price, previousKey));
+        entity.rememberLoadedKey();
+    }
+
+    @PostRemove
+    public void deleted(PriceEntity entity) {
+        record(PriceChangeEvent.Kind.DELETED, entity);
+    }
+
+    private void record(PriceChangeEvent.Kind kind, PriceEntity entity) {
+        Price price = mapper.toDomain(entity);
+        history.getObject().record(kind, List.of(price));
+        changeCapture.ifAvailable(capture -> capture.record(kind, price));
+    }
+}
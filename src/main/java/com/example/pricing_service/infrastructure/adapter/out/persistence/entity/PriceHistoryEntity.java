@@ -0,0 +1,72 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence.entity;
+
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeEvent;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One version of a {@link PriceEntity} row, appended in the transaction that wrote it and never
+ * updated. Rows are written with JDBC by the history adapter; the entity only declares the table.
+ */
+@Entity
+@Immutable
+@Table(name = "price_history", indexes = {
+        // As-of lookups seek by product/brand and stop at the transaction time
+        @Index(name = PriceHistoryEntity.LOOKUP_INDEX, columnList = "product_id, brand_id, recorded_at"),
+        // Finding the latest version of a row at a transaction time
+        @Index(name = PriceHistoryEntity.ROW_INDEX, columnList = "price_id, recorded_at")
+})
+@Getter
+@NoArgsConstructor
+public class PriceHistoryEntity {
+
+    public static final String LOOKUP_INDEX = "idx_price_history_lookup";
+    public static final String ROW_INDEX = "idx_price_history_row";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "history_id")
+    private Long historyId;
+
+    @Column(name = "price_id", nullable = false)
+    private Long priceId;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(name = "price_list", nullable = false)
+    private Long priceList;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "priority", nullable = false)
+    private Integer priority;
+
+    @Column(name = "price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "curr", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 7)
+    private PriceChangeEvent.Kind operation;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
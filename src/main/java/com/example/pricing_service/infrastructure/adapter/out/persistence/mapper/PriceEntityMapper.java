@@ -2,6 +2,7 @@ package com.example.pricing_service.infrastructure.adapter.out.persistence.mappe
 
 import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.projection.PriceView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,5 +14,8 @@ public interface PriceEntityMapper {
     @Mapping(source = "price", target = "finalPrice")
     Price toDomain(PriceEntity entity);
 
+    @Mapping(source = "price", target = "finalPrice")
+    Price toDomain(PriceView view);
+
     List<Price> toDomainList(List<PriceEntity> entities);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a {@code prices} row, fetched without hydrating a managed entity.
+ */
+public record PriceView(
+        Long id,
+        Long brandId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Long priceList,
+        Long productId,
+        Integer priority,
+        BigDecimal price,
+        String currency,
+        Long version) {
+}
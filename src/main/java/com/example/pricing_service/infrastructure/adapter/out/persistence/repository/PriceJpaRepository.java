@@ -1,12 +1,16 @@
 package com.example.pricing_service.infrastructure.adapter.out.persistence.repository;
 
 import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.projection.PriceView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
 
@@ -20,4 +24,55 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
             @Param("brandId") Long brandId,
             @Param("applicationDate") LocalDateTime applicationDate
     );
+
+    /**
+     * Returns the applicable price with the highest priority, breaking ties by the most recent start date.
+     * Call with {@code Limit.of(1)} to fetch only the winning row.
+     */
+    @Query("SELECT new com.example.pricing_service.infrastructure.adapter.out.persistence.projection.PriceView(" +
+            "p.id, p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency, p.version) " +
+            "FROM PriceEntity p WHERE " +
+            "p.productId = :productId AND " +
+            "p.brandId = :brandId AND " +
+            "p.startDate <= :applicationDate AND " +
+            "p.endDate >= :applicationDate " +
+            "ORDER BY p.priority DESC, p.startDate DESC, p.id ASC")
+    List<PriceView> findApplicablePriceViews(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("applicationDate") LocalDateTime applicationDate,
+            Limit limit
+    );
+
+    List<PriceEntity> findByBrandIdAndProductId(Long brandId, Long productId);
+
+    @Query("SELECT p FROM PriceEntity p WHERE " +
+            "p.brandId = :brandId AND " +
+            "p.productId IN :productIds AND " +
+            "p.startDate <= :to AND " +
+            "p.endDate >= :from")
+    List<PriceEntity> findCandidatePrices(
+            @Param("brandId") Long brandId,
+            @Param("productIds") Collection<Long> productIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Returns the earliest start date in {@code (after, until]} of a price that would outrank one of
+     * the given priority starting before {@code after}: any later start with at least that priority.
+     */
+    @Query("SELECT MIN(p.startDate) FROM PriceEntity p WHERE " +
+            "p.productId = :productId AND " +
+            "p.brandId = :brandId AND " +
+            "p.startDate > :after AND " +
+            "p.startDate <= :until AND " +
+            "p.priority >= :priority")
+    Optional<LocalDateTime> findNextOutrankingStart(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("priority") Integer priority,
+            @Param("after") LocalDateTime after,
+            @Param("until") LocalDateTime until
+    );
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.pricing_service.infrastructure.adapter.out.r2dbc;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.ReactivePriceRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking lookup over the same {@code prices} table the JPA adapter reads, fetching only the
+ * winning row. Owns its connection pool and disposes it on shutdown.
+ */
+public class PriceR2dbcAdapter implements ReactivePriceRepository, DisposableBean {
+
+    private static final String FIND_APPLICABLE_SQL = """
+            SELECT id, brand_id, start_date, end_date, price_list, product_id, priority, price, curr, version
+            FROM prices
+            WHERE product_id = :productId
+              AND brand_id = :brandId
+              AND start_date <= :applicationDate
+              AND end_date >= :applicationDate
+            ORDER BY priority DESC, start_date DESC, id ASC
+            LIMIT 1
+            """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public PriceR2dbcAdapter(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public Mono<Price> findApplicable(PriceQuery query) {
+        return databaseClient.sql(FIND_APPLICABLE_SQL)
+                .bind("productId", query.productId())
+                .bind("brandId", query.brandId())
+                .bind("applicationDate", query.applicationDate())
+                .map(PriceR2dbcAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static Price toDomain(Readable row) {
+        return Price.builder()
+                .id(row.get("id", Long.class))
+                .brandId(row.get("brand_id", Long.class))
+                .startDate(row.get("start_date", LocalDateTime.class))
+                .endDate(row.get("end_date", LocalDateTime.class))
+                .priceList(row.get("price_list", Long.class))
+                .productId(row.get("product_id", Long.class))
+                .priority(row.get("priority", Integer.class))
+                .finalPrice(row.get("price", BigDecimal.class))
+                .currency(row.get("curr", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
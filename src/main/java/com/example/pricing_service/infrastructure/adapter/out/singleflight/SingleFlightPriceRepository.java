@@ -0,0 +1,183 @@
+package com.example.pricing_service.infrastructure.adapter.out.singleflight;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent single-price queries for the same product/brand into one call to the delegate.
+ * <p>
+ * Flights are keyed by product/brand only, not by application date: the leader loads every row of the
+ * product/brand ({@link PriceRepository#findByKey(PriceKey)}), and each caller, leader and followers
+ * alike, resolves its own date against those rows. Requests for a hot product therefore share a flight
+ * even when their timestamps all differ, as they do under flash-sale traffic. Callers share the
+ * leader's exception if the load fails. Once the call returns the next query goes to the delegate
+ * again, so nothing is cached beyond the flight itself. Validity lookups only join a flight already in
+ * the air, so a lookup on its own loads the rows once. Bulk and range queries rarely repeat
+ * concurrently and go straight to the delegate.
+ * <p>
+ * Rows are resolved in the order of the database queries they replace: highest priority, then latest
+ * start date, then lowest id.
+ */
+public class SingleFlightPriceRepository implements PriceRepository {
+
+    private static final Comparator<Price> WINNER_ORDER = Price.PRIORITY_ORDER
+            .thenComparing(Price::getId, Comparator.reverseOrder());
+
+    private final PriceRepository delegate;
+    private final SingleFlight<PriceKey, List<Price>> rowFlights;
+
+    public SingleFlightPriceRepository(PriceRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.rowFlights = new SingleFlight<>(meterRegistry, "findByKey");
+    }
+
+    @Override
+    public List<Price> findByQuery(PriceQuery query) {
+        return rows(query.key()).stream()
+                .filter(price -> price.isApplicableFor(query.applicationDate()))
+                .toList();
+    }
+
+    @Override
+    public Optional<Price> findApplicable(PriceQuery query) {
+        return rows(query.key()).stream()
+                .filter(price -> price.isApplicableFor(query.applicationDate()))
+                .max(WINNER_ORDER);
+    }
+
+    @Override
+    public List<Price> findByQueries(Collection<PriceQuery> queries) {
+        return delegate.findByQueries(queries);
+    }
+
+    @Override
+    public List<Price> findByKey(PriceKey key) {
+        return rows(key);
+    }
+
+    @Override
+    public List<Price> findOverlapping(PriceKey key, LocalDateTime from, LocalDateTime to) {
+        return delegate.findOverlapping(key, from, to);
+    }
+
+    /**
+     * Joins a load of the winner's rows if one is in flight, and otherwise asks the delegate, whose
+     * query reads a single start date. It never starts a load of its own: it runs right after the
+     * {@link #findApplicable} that found the winner, whose flight has usually landed by then, and
+     * loading every row again would cost more than the query it replaces.
+     */
+    @Override
+    public Optional<LocalDateTime> findNextOutrankingStart(Price winner, LocalDateTime after) {
+        return rowFlights.joinIfInFlight(PriceKey.of(winner))
+                .map(rows -> rows.stream()
+                        .filter(price -> price.getStartDate().isAfter(after)
+                                && !price.getStartDate().isAfter(winner.getEndDate())
+                                && price.getPriority() >= winner.getPriority())
+                        .map(Price::getStartDate)
+                        .min(Comparator.naturalOrder()))
+                .orElseGet(() -> delegate.findNextOutrankingStart(winner, after));
+    }
+
+    private List<Price> rows(PriceKey key) {
+        return rowFlights.execute(key, () -> delegate.findByKey(key));
+    }
+
+    /**
+     * In-flight calls of one repository method, keyed by their arguments, with counters of the callers
+     * that ran the call ({@code leader}) and of those that joined one ({@code follower}).
+     */
+    static final class SingleFlight<K, V> {
+
+        private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+        private final Counter leaders;
+        private final Counter followers;
+
+        SingleFlight(MeterRegistry meterRegistry, String method) {
+            this.leaders = calls(meterRegistry, method, "leader");
+            this.followers = calls(meterRegistry, method, "follower");
+            Gauge.builder("pricing.singleflight.collapse.ratio", this, SingleFlight::collapseRatio)
+                    .description("Share of queries answered by joining a call already in flight")
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        V execute(K key, Supplier<V> call) {
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                followers.increment();
+                return join(existing);
+            }
+            leaders.increment();
+            V result;
+            try {
+                result = call.get();
+            } catch (RuntimeException | Error e) {
+                // Leave the map before completing, so late callers start a new flight instead of
+                // joining one that is already decided
+                inFlight.remove(key, flight);
+                flight.completeExceptionally(e);
+                throw e;
+            }
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        }
+
+        /**
+         * Waits for the call in flight for {@code key}, if any, and counts the caller as a follower.
+         */
+        Optional<V> joinIfInFlight(K key) {
+            CompletableFuture<V> existing = inFlight.get(key);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            followers.increment();
+            return Optional.of(join(existing));
+        }
+
+        private double collapseRatio() {
+            double joined = followers.count();
+            double total = joined + leaders.count();
+            return total == 0 ? 0 : joined / total;
+        }
+
+        private static <V> V join(CompletableFuture<V> flight) {
+            try {
+                return flight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        private static Counter calls(MeterRegistry meterRegistry, String method, String role) {
+            return Counter.builder("pricing.singleflight.calls")
+                    .description("Single-price queries by whether the caller ran the call or joined one in flight")
+                    .tag("method", method)
+                    .tag("role", role)
+                    .register(meterRegistry);
+        }
+    }
+}
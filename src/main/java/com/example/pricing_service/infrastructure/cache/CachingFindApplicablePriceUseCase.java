@@ -0,0 +1,67 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceTimeline;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves {@link FindApplicablePriceUseCase} lookups from a {@link PriceTimelineCache}, loading the
+ * timeline of a product/brand on the first request for it. The cache only holds current rows, so
+ * queries carrying an {@code asOf} go to {@code historical}.
+ */
+@RequiredArgsConstructor
+public class CachingFindApplicablePriceUseCase implements FindApplicablePriceUseCase {
+
+    private final PriceTimelineCache cache;
+    private final FindApplicablePriceUseCase historical;
+
+    @Override
+    public Price findApplicablePrice(PriceQuery query) {
+        if (query.isHistorical()) {
+            return historical.findApplicablePrice(query);
+        }
+        return cache.get(query.key())
+                .priceAt(query.applicationDate())
+                .orElseThrow(() -> PriceNotFoundException.forQuery(query.productId(), query.brandId()));
+    }
+
+    /**
+     * The end of the segment holding the application date is exactly where the price stops applying.
+     */
+    @Override
+    public ApplicablePrice findApplicablePriceWithValidity(PriceQuery query) {
+        if (query.isHistorical()) {
+            return historical.findApplicablePriceWithValidity(query);
+        }
+        PriceTimeline timeline = cache.get(query.key());
+        Price price = timeline.priceAt(query.applicationDate())
+                .orElseThrow(() -> PriceNotFoundException.forQuery(query.productId(), query.brandId()));
+        LocalDateTime validUntil = timeline.nextBoundaryAfter(query.applicationDate())
+                .map(boundary -> boundary.minusSeconds(1))
+                .orElse(price.getEndDate());
+        return new ApplicablePrice(price, validUntil);
+    }
+
+    @Override
+    public List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries) {
+        if (queries.stream().anyMatch(PriceQuery::isHistorical)) {
+            return historical.findApplicablePrices(queries);
+        }
+        Map<PriceKey, PriceTimeline> timelines = cache.getAll(queries.stream().map(PriceQuery::key).toList());
+        return queries.stream()
+                .map(query -> new PriceLookupResult(query, timelines.get(query.key())
+                        .priceAt(query.applicationDate())
+                        .orElse(null)))
+                .toList();
+    }
+}
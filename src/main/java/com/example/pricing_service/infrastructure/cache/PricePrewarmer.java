@@ -0,0 +1,139 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Loads product/brand timelines into the {@link PriceTimelineCache} shortly before their applicable
+ * price changes, so the first requests after a promotion starts or ends are cache hits rather than a
+ * burst of database queries.
+ * <p>
+ * Cached timelines stay valid across boundaries, so only product/brands that are not cached yet, such
+ * as the ones a promotion puts in front of shoppers for the first time, would miss at the boundary.
+ * Every {@code scanInterval}, the database is scanned for prices starting or ending within
+ * {@code lookahead}, and a warm-up is scheduled {@code lead} ahead of each boundary found. Boundaries
+ * closer than {@code lead} are left out: they are either already scheduled or too close to warm in time.
+ * A warm-up skips timelines that are already cached.
+ */
+@Slf4j
+public class PricePrewarmer {
+
+    private final PriceTimelineCache cache;
+    private final PriceCatalogReader catalogReader;
+    private final TaskScheduler scheduler;
+    private final Clock clock;
+    private final PricingProperties.Prewarm settings;
+    private final DistributionSummary keysWarmed;
+
+    private final Map<LocalDateTime, Set<PriceKey>> pending = new HashMap<>();
+    private final Map<LocalDateTime, ScheduledFuture<?>> warmUps = new HashMap<>();
+    private ScheduledFuture<?> scans;
+
+    public PricePrewarmer(PriceTimelineCache cache, PriceCatalogReader catalogReader, TaskScheduler scheduler,
+                          Clock clock, PricingProperties.Prewarm settings, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.catalogReader = catalogReader;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.settings = settings;
+        this.keysWarmed = DistributionSummary.builder("pricing.prewarm.keys")
+                .description("Product/brand timelines loaded into the cache ahead of a price boundary")
+                .register(meterRegistry);
+    }
+
+    public synchronized void start() {
+        scans = scheduler.scheduleWithFixedDelay(this::scan, settings.scanInterval());
+    }
+
+    public synchronized void stop() {
+        if (scans != null) {
+            scans.cancel(false);
+        }
+        warmUps.values().forEach(warmUp -> warmUp.cancel(false));
+        warmUps.clear();
+        pending.clear();
+    }
+
+    /**
+     * Finds the boundaries of the lookahead window and schedules a warm-up for each one not already
+     * scheduled. Keys found for an already scheduled boundary join its warm-up.
+     *
+     * @return the number of boundaries newly scheduled
+     */
+    public int scan() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<LocalDateTime, Set<PriceKey>> found = new HashMap<>();
+        try {
+            catalogReader.forEachBoundary(now.plus(settings.lead()), now.plus(settings.lookahead()),
+                    boundary -> found.computeIfAbsent(boundary.at(), at -> new LinkedHashSet<>()).add(boundary.key()));
+        } catch (RuntimeException e) {
+            log.error("Failed to scan upcoming price boundaries", e);
+            return 0;
+        }
+        int scheduled = 0;
+        synchronized (this) {
+            for (Map.Entry<LocalDateTime, Set<PriceKey>> boundary : found.entrySet()) {
+                Set<PriceKey> keys = pending.get(boundary.getKey());
+                if (keys != null) {
+                    keys.addAll(boundary.getValue());
+                    continue;
+                }
+                pending.put(boundary.getKey(), boundary.getValue());
+                Instant warmAt = boundary.getKey().minus(settings.lead()).atZone(clock.getZone()).toInstant();
+                warmUps.put(boundary.getKey(), scheduler.schedule(() -> warm(boundary.getKey()), warmAt));
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * Loads the timelines of the product/brands whose price changes at the boundary and that are not
+     * cached yet.
+     *
+     * @return the number of timelines loaded
+     */
+    int warm(LocalDateTime boundary) {
+        Set<PriceKey> keys;
+        synchronized (this) {
+            keys = pending.remove(boundary);
+            warmUps.remove(boundary);
+        }
+        if (keys == null) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        int warmed = 0;
+        int cached = 0;
+        for (PriceKey key : keys) {
+            try {
+                if (cache.prewarm(key)) {
+                    warmed++;
+                } else {
+                    cached++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to pre-warm prices of {} for {}", key, boundary, e);
+            }
+        }
+        keysWarmed.record(warmed);
+        log.info("Pre-warmed {} of {} product/brand timelines for the {} price boundary, {} already cached ({} ms)",
+                warmed, keys.size(), boundary, cached, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return warmed;
+    }
+}
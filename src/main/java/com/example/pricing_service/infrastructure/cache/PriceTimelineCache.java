@@ -0,0 +1,74 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceTimeline;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Read-through cache of compiled {@link PriceTimeline}s keyed by product/brand.
+ * <p>
+ * A cached timeline answers any application date with a binary search over its segments, so the raw
+ * {@link LocalDateTime} of a query never becomes part of the key. The timeline holds every price of its
+ * product/brand and stays correct across all of their boundaries, so an entry only leaves the cache
+ * after {@code expireAfterWrite}, on size eviction, or when the change feed invalidates it.
+ */
+public class PriceTimelineCache {
+
+    private final LoadingCache<PriceKey, PriceTimeline> cache;
+    private final PriceRepository priceRepository;
+
+    public PriceTimelineCache(PriceRepository priceRepository, long maximumSize, Duration expireAfterWrite) {
+        this.priceRepository = priceRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::load);
+    }
+
+    public PriceTimeline get(PriceKey key) {
+        return cache.get(key);
+    }
+
+    public Map<PriceKey, PriceTimeline> getAll(Collection<PriceKey> keys) {
+        return cache.getAll(keys);
+    }
+
+    public void invalidate(PriceKey key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Loads the timeline of a product/brand unless it is already cached.
+     *
+     * @return whether the timeline was loaded
+     */
+    public boolean prewarm(PriceKey key) {
+        if (cache.asMap().containsKey(key)) {
+            return false;
+        }
+        cache.get(key);
+        return true;
+    }
+
+    public LoadingCache<PriceKey, ?> nativeCache() {
+        return cache;
+    }
+
+    Duration expiresAfter(PriceKey key) {
+        return cache.policy().expireAfterWrite()
+                .flatMap(policy -> policy.ageOf(key).map(age -> policy.getExpiresAfter().minus(age)))
+                .orElse(Duration.ZERO);
+    }
+
+    private PriceTimeline load(PriceKey key) {
+        return PriceTimeline.compile(priceRepository.findByKey(key));
+    }
+}
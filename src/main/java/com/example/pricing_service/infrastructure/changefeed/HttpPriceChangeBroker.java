@@ -0,0 +1,84 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Delivers changes to the listeners of this node, then posts a {@link PriceChangeNotice} of each to
+ * the {@code /internal/price-changes} endpoint of every peer. The peer reads the rows back from the
+ * database ({@link PeerPriceChangeReceiver}) and delivers them to its own listeners without
+ * forwarding them again.
+ * <p>
+ * Posting happens on a single background thread, so a slow or unreachable peer never delays the
+ * writer, and each peer receives the changes of this node in commit order. A change that fails to
+ * reach a peer is logged and counted, not retried: the peer catches up on its next reload or export.
+ */
+@Slf4j
+public class HttpPriceChangeBroker implements PriceChangeBroker, DisposableBean {
+
+    static final String CHANGES_PATH = "/internal/price-changes";
+
+    private final LocalPriceChangeBroker local;
+    private final RestClient restClient;
+    private final List<String> peers;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "price-change-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HttpPriceChangeBroker(LocalPriceChangeBroker local, RestClient restClient, List<String> peers,
+                                 MeterRegistry meterRegistry) {
+        this.local = local;
+        this.restClient = restClient;
+        this.peers = List.copyOf(peers);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(List<PriceChangeEvent> events) {
+        local.deliver(events);
+        if (!peers.isEmpty()) {
+            List<PriceChangeNotice> notices = events.stream().map(PriceChangeNotice::of).toList();
+            sender.execute(() -> peers.forEach(peer -> send(peer, notices)));
+        }
+    }
+
+    @Override
+    public void subscribe(PriceChangeListener listener) {
+        local.subscribe(listener);
+    }
+
+    private void send(String peer, List<PriceChangeNotice> notices) {
+        try {
+            restClient.post()
+                    .uri(peer + CHANGES_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(notices)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("Failed to send {} price changes to {}", notices.size(), peer, e);
+            Counter.builder("pricing.changes.send.failures")
+                    .description("Batches of price changes that could not be sent to a peer")
+                    .tag("peer", peer)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+}
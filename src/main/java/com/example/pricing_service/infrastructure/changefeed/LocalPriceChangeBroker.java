@@ -0,0 +1,57 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process broker: delivers changes to the listeners of this node on the publishing thread, before
+ * {@link #publish(List)} returns. A failing listener is logged and does not keep the others from
+ * receiving the change.
+ */
+@Slf4j
+public class LocalPriceChangeBroker implements PriceChangeBroker {
+
+    private final List<PriceChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Clock clock;
+    private final Timer deliveryLag;
+
+    public LocalPriceChangeBroker(Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.deliveryLag = Timer.builder("pricing.changes.delivery.lag")
+                .description("Time from the commit of a price change to its delivery to the listeners of this node")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<PriceChangeEvent> events) {
+        deliver(events);
+    }
+
+    @Override
+    public void subscribe(PriceChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Hands the changes to the listeners of this node only.
+     */
+    public void deliver(List<PriceChangeEvent> events) {
+        for (PriceChangeEvent event : events) {
+            for (PriceChangeListener listener : listeners) {
+                try {
+                    listener.onChange(event);
+                } catch (RuntimeException e) {
+                    log.error("Price change listener failed on {} of price {}", event.kind(), event.id(), e);
+                }
+            }
+            Duration lag = Duration.between(event.committedAt(), clock.instant());
+            deliveryLag.record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the changes other nodes post to {@code /internal/price-changes}. Peers only say which rows
+ * changed; the rows are read back from the database, which every node shares, and delivered to this
+ * node's listeners as they are there. A row that is gone is removed from every product/brand the
+ * notices place it in, and a row that is there is removed from every one but its own.
+ * <p>
+ * A notice therefore can only bring this node closer to the database: one that is forged or out of
+ * date never makes it serve a price the database does not hold.
+ */
+public class PeerPriceChangeReceiver {
+
+    private final LocalPriceChangeBroker local;
+    private final PriceJpaAdapter rows;
+
+    public PeerPriceChangeReceiver(LocalPriceChangeBroker local, PriceJpaAdapter rows) {
+        this.local = local;
+        this.rows = rows;
+    }
+
+    public void receive(List<PriceChangeNotice> notices) {
+        Set<Long> ids = notices.stream().map(PriceChangeNotice::id).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Price> current = rows.findAllById(ids).stream()
+                .collect(Collectors.toMap(Price::getId, Function.identity()));
+
+        List<PriceChangeEvent> events = new ArrayList<>(notices.size());
+        for (PriceChangeNotice notice : notices) {
+            Price row = current.get(notice.id());
+            PriceKey rowKey = row == null ? null : PriceKey.of(row);
+            for (PriceKey claimed : Arrays.asList(notice.key(), notice.previousKey())) {
+                if (claimed != null && !claimed.equals(rowKey)) {
+                    events.add(PriceChangeEvent.removal(notice.id(), claimed, notice.committedAt()));
+                }
+            }
+            if (row != null) {
+                events.add(PriceChangeEvent.of(PriceChangeEvent.Kind.UPDATED, row, notice.committedAt()));
+            }
+        }
+        local.deliver(events);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import java.util.List;
+
+/**
+ * Carries committed price changes from the node that made them to the listeners of every node.
+ */
+public interface PriceChangeBroker {
+
+    /**
+     * Publishes the changes of one transaction, in the order they were made.
+     */
+    void publish(List<PriceChangeEvent> events);
+
+    void subscribe(PriceChangeListener listener);
+}
@@ -0,0 +1,87 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the price writes of the current transaction and publishes them once it commits. Writes
+ * of a transaction that rolls back are dropped; writes made outside a transaction are published
+ * immediately.
+ */
+public class PriceChangeCapture {
+
+    private final PriceChangeBroker broker;
+    private final Clock clock;
+    private final Map<PriceChangeEvent.Kind, Counter> published = new EnumMap<>(PriceChangeEvent.Kind.class);
+
+    public PriceChangeCapture(PriceChangeBroker broker, Clock clock, MeterRegistry meterRegistry) {
+        this.broker = broker;
+        this.clock = clock;
+        for (PriceChangeEvent.Kind kind : PriceChangeEvent.Kind.values()) {
+            published.put(kind, Counter.builder("pricing.changes.published")
+                    .description("Committed price changes published to the change feed")
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(PriceChangeEvent.Kind kind, Price price) {
+        record(kind, price, null);
+    }
+
+    /**
+     * @param previousKey product/brand the row left, when an update moved it to another one
+     */
+    public void record(PriceChangeEvent.Kind kind, Price price, PriceKey previousKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(new PendingChange(kind, price, previousKey)));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(new PendingChange(kind, price, previousKey));
+    }
+
+    private void publish(List<PendingChange> changes) {
+        Instant committedAt = clock.instant();
+        List<PriceChangeEvent> events = new ArrayList<>(changes.size());
+        for (PendingChange change : changes) {
+            events.add(PriceChangeEvent.of(change.kind(), change.price(), change.previousKey(), committedAt));
+            published.get(change.kind()).increment();
+        }
+        broker.publish(events);
+    }
+
+    private record PendingChange(PriceChangeEvent.Kind kind, Price price, PriceKey previousKey) {
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<PendingChange> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            publish(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PriceChangeCapture.this);
+        }
+    }
+}
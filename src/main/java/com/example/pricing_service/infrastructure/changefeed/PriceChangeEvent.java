@@ -0,0 +1,84 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * A committed write to one row of the {@code prices} table. Deletions carry the row as it was before
+ * being deleted, or only its id and product/brand when received from a peer.
+ *
+ * @param previousKey product/brand the row belonged to before an update moved it to another one;
+ *                    {@code null} when the write did not move the row
+ * @param committedAt when the transaction that made the change committed, as seen by the node that made it
+ */
+public record PriceChangeEvent(
+        Kind kind,
+        Long id,
+        Long brandId,
+        Long productId,
+        Long priceList,
+        Integer priority,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal price,
+        String currency,
+        Long version,
+        PriceKey previousKey,
+        Instant committedAt) {
+
+    public enum Kind {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PriceChangeEvent of(Kind kind, Price price, Instant committedAt) {
+        return of(kind, price, null, committedAt);
+    }
+
+    public static PriceChangeEvent of(Kind kind, Price price, PriceKey previousKey, Instant committedAt) {
+        return new PriceChangeEvent(
+                kind,
+                price.getId(),
+                price.getBrandId(),
+                price.getProductId(),
+                price.getPriceList(),
+                price.getPriority(),
+                price.getStartDate(),
+                price.getEndDate(),
+                price.getFinalPrice(),
+                price.getCurrency(),
+                price.getVersion(),
+                previousKey,
+                committedAt);
+    }
+
+    /**
+     * Removal of a row from one product/brand, known only by its id.
+     */
+    public static PriceChangeEvent removal(Long id, PriceKey key, Instant committedAt) {
+        return new PriceChangeEvent(Kind.DELETED, id, key.brandId(), key.productId(),
+                null, null, null, null, null, null, null, null, committedAt);
+    }
+
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+
+    public Price toPrice() {
+        return Price.builder()
+                .id(id)
+                .brandId(brandId)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(startDate)
+                .endDate(endDate)
+                .finalPrice(price)
+                .currency(currency)
+                .version(version)
+                .build();
+    }
+}
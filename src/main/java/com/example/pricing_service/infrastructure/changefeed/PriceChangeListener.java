@@ -0,0 +1,12 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+/**
+ * Receives committed price changes. Called on the thread that delivers them, in commit order for
+ * changes made by the same node; implementations should only patch or drop the affected
+ * product/brand and return quickly.
+ */
+@FunctionalInterface
+public interface PriceChangeListener {
+
+    void onChange(PriceChangeEvent event);
+}
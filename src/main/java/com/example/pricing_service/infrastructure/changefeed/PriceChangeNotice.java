@@ -0,0 +1,19 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.PriceKey;
+
+import java.time.Instant;
+
+/**
+ * What a node tells its peers about a committed change: which row changed and where it was, but not
+ * its content. Peers read the row back from the database before applying it.
+ *
+ * @param key         product/brand of the row as written
+ * @param previousKey product/brand the row left, when the change moved it; {@code null} otherwise
+ */
+public record PriceChangeNotice(Long id, PriceKey key, PriceKey previousKey, Instant committedAt) {
+
+    public static PriceChangeNotice of(PriceChangeEvent event) {
+        return new PriceChangeNotice(event.id(), event.key(), event.previousKey(), event.committedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.filter.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.concurrency.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Limits only the lookup endpoints, public and internal, whose work is one short database read each.
+     * Import, export and the timeline stream for as long as their data takes and the timeline completes
+     * asynchronously, after the filter has returned, so a permit would not reflect their load.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            PricingProperties properties,
+            ObjectMapper objectMapper) {
+
+        PricingProperties.Concurrency settings = properties.concurrency();
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(settings.maxConcurrentRequests(), settings.acquireTimeout(), objectMapper));
+        registration.addUrlPatterns("/prices", "/prices/batch", "/internal/prices", "/internal/prices/batch");
+        return registration;
+    }
+}
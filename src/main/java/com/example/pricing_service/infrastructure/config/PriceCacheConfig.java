@@ -0,0 +1,71 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.application.service.FindApplicablePriceService;
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.example.pricing_service.infrastructure.cache.CachingFindApplicablePriceUseCase;
+import com.example.pricing_service.infrastructure.cache.PricePrewarmer;
+import com.example.pricing_service.infrastructure.cache.PriceTimelineCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(name = "pricing.cache.enabled", havingValue = "true")
+public class PriceCacheConfig {
+
+    static final String CACHE_NAME = "prices";
+
+    @Bean
+    public PriceTimelineCache priceTimelineCache(
+            PriceRepository priceRepository,
+            PricingProperties properties,
+            MeterRegistry meterRegistry) {
+
+        PricingProperties.Cache settings = properties.cache();
+        PriceTimelineCache cache = new PriceTimelineCache(
+                priceRepository, settings.maximumSize(), settings.expireAfterWrite());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * Runs on its own single-thread scheduler rather than a context-wide one, so it neither needs
+     * {@code @EnableScheduling} nor takes the place of the auto-configured task executor.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "pricing.cache.prewarm.enabled", havingValue = "true")
+    public PricePrewarmer pricePrewarmer(
+            PriceTimelineCache cache,
+            PriceCatalogReader catalogReader,
+            Clock clock,
+            PricingProperties properties,
+            MeterRegistry meterRegistry) {
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("price-prewarm-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return new PricePrewarmer(cache, catalogReader, scheduler, clock, properties.cache().prewarm(), meterRegistry);
+    }
+
+    /**
+     * With sharding enabled, the sharding config wraps the cache in its router instead.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "pricing.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public FindApplicablePriceUseCase cachingFindApplicablePriceUseCase(
+            PriceTimelineCache cache,
+            FindApplicablePriceService service) {
+
+        return new CachingFindApplicablePriceUseCase(cache, service);
+    }
+}
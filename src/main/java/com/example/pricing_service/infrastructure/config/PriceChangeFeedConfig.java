@@ -0,0 +1,98 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceInMemoryAdapter;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import com.example.pricing_service.infrastructure.cache.PriceTimelineCache;
+import com.example.pricing_service.infrastructure.changefeed.HttpPriceChangeBroker;
+import com.example.pricing_service.infrastructure.changefeed.LocalPriceChangeBroker;
+import com.example.pricing_service.infrastructure.changefeed.PeerPriceChangeReceiver;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeBroker;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeCapture;
+import com.example.pricing_service.infrastructure.changefeed.PriceChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(name = "pricing.change-feed.enabled", havingValue = "true")
+public class PriceChangeFeedConfig {
+
+    @Bean
+    public LocalPriceChangeBroker localPriceChangeBroker(Clock clock, MeterRegistry meterRegistry) {
+        return new LocalPriceChangeBroker(clock, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "pricing.change-feed.transport", havingValue = "http")
+    public HttpPriceChangeBroker httpPriceChangeBroker(
+            LocalPriceChangeBroker local,
+            RestClient.Builder restClientBuilder,
+            PricingProperties properties,
+            MeterRegistry meterRegistry) {
+
+        PricingProperties.ChangeFeed settings = properties.changeFeed();
+        ClientHttpRequestFactorySettings requestSettings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(settings.timeout())
+                .withReadTimeout(settings.timeout());
+        return new HttpPriceChangeBroker(
+                local,
+                restClientBuilder.requestFactory(ClientHttpRequestFactories.get(requestSettings)).build(),
+                settings.peers(),
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pricing.change-feed.transport", havingValue = "http")
+    public PeerPriceChangeReceiver peerPriceChangeReceiver(LocalPriceChangeBroker local, PriceJpaAdapter jpaAdapter) {
+        return new PeerPriceChangeReceiver(local, jpaAdapter);
+    }
+
+    @Bean
+    public PriceChangeCapture priceChangeCapture(PriceChangeBroker broker, Clock clock, MeterRegistry meterRegistry) {
+        return new PriceChangeCapture(broker, clock, meterRegistry);
+    }
+
+    /**
+     * Subscribes whichever derived structures this node runs, once they all exist: the in-memory
+     * index patches the affected product/brand timeline, the timeline cache drops its entry. A row
+     * moved to another product/brand is also removed from, or dropped for, the one it left.
+     * <p>
+     * The memory-mapped store is not subscribed: its file is immutable once exported, so it keeps
+     * serving the database as of its last export.
+     */
+    @Bean
+    public SmartInitializingSingleton priceChangeSubscriptions(
+            PriceChangeBroker broker,
+            ObjectProvider<PriceInMemoryAdapter> inMemoryAdapter,
+            ObjectProvider<PriceTimelineCache> timelineCache) {
+
+        return () -> {
+            inMemoryAdapter.ifAvailable(adapter -> broker.subscribe(event -> {
+                if (event.previousKey() != null) {
+                    adapter.remove(event.previousKey(), event.id());
+                }
+                if (event.kind() == PriceChangeEvent.Kind.DELETED) {
+                    adapter.remove(event.key(), event.id());
+                } else {
+                    adapter.upsert(event.toPrice());
+                }
+            }));
+            timelineCache.ifAvailable(cache -> broker.subscribe(event -> {
+                cache.invalidate(event.key());
+                if (event.previousKey() != null) {
+                    cache.invalidate(event.previousKey());
+                }
+            }));
+        };
+    }
+}
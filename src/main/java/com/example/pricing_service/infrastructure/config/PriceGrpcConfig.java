@@ -0,0 +1,29 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.PriceGrpcMetricsInterceptor;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.PriceGrpcServer;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.PriceGrpcService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "pricing.grpc.enabled", havingValue = "true")
+public class PriceGrpcConfig {
+
+    @Bean
+    public PriceGrpcService priceGrpcService(FindApplicablePriceUseCase findApplicablePriceUseCase) {
+        return new PriceGrpcService(findApplicablePriceUseCase);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PriceGrpcServer priceGrpcServer(
+            PriceGrpcService service,
+            PricingProperties properties,
+            MeterRegistry meterRegistry) {
+
+        return new PriceGrpcServer(service, new PriceGrpcMetricsInterceptor(meterRegistry), properties.grpc());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.application.service.ImportPricesService;
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.port.out.PriceWriter;
+import com.example.pricing_service.infrastructure.adapter.in.feed.PriceFeedReader;
+import com.example.pricing_service.infrastructure.adapter.in.feed.PriceImportRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PriceImportConfig {
+
+    @Bean
+    public ImportPricesUseCase importPricesUseCase(PriceWriter priceWriter, PricingProperties properties) {
+        return new ImportPricesService(priceWriter, properties.bulkImport().chunkSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pricing.bulk-import.file")
+    public PriceImportRunner priceImportRunner(ImportPricesUseCase importPricesUseCase,
+                                               PriceFeedReader feedReader,
+                                               PricingProperties properties) {
+        return new PriceImportRunner(importPricesUseCase, feedReader, Path.of(properties.bulkImport().file()));
+    }
+}
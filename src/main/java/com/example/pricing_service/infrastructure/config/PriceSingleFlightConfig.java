@@ -0,0 +1,25 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import com.example.pricing_service.infrastructure.adapter.out.singleflight.SingleFlightPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "pricing.single-flight.enabled", havingValue = "true")
+public class PriceSingleFlightConfig {
+
+    /**
+     * Only the JPA adapter goes to the database per lookup; the in-memory adapter has nothing to collapse.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "pricing.repository.type", havingValue = "jpa", matchIfMissing = true)
+    public PriceRepository singleFlightPriceRepository(PriceJpaAdapter jpaAdapter, MeterRegistry meterRegistry) {
+        return new SingleFlightPriceRepository(jpaAdapter, meterRegistry);
+    }
+}
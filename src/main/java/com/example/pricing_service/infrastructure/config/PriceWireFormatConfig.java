@@ -0,0 +1,23 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.codec.PriceBinaryHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceWireFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * Appended after Jackson, so clients that accept anything keep getting JSON and only those asking
+     * for the binary media type get it.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PriceBinaryHttpMessageConverter());
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.pricing_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "pricing")
+public record PricingProperties(
+        @DefaultValue Repository repository,
+        @DefaultValue MappedStore mappedStore,
+        @DefaultValue Cache cache,
+        @DefaultValue SingleFlight singleFlight,
+        @DefaultValue Concurrency concurrency,
+        @DefaultValue R2dbc r2dbc,
+        @DefaultValue BulkImport bulkImport,
+        @DefaultValue HttpCache httpCache,
+        @DefaultValue Sharding sharding,
+        @DefaultValue ChangeFeed changeFeed,
+        @DefaultValue Grpc grpc) {
+
+    /**
+     * @param type               {@code jpa}, {@code in-memory} or {@code mapped}
+     * @param rebuildParallelism worker threads the {@code in-memory} repository rebuilds its index with;
+     *                           {@code 0} uses one per available processor
+     */
+    public record Repository(
+            @DefaultValue("jpa") String type,
+            @DefaultValue("0") int rebuildParallelism) {
+    }
+
+    /**
+     * @param file            price store file mapped by the {@code mapped} repository
+     * @param exportIfMissing whether the file is exported from the database once the application is
+     *                        ready when it is missing or invalid
+     */
+    public record MappedStore(
+            @DefaultValue("prices.store") String file,
+            @DefaultValue("true") boolean exportIfMissing) {
+    }
+
+    /**
+     * @param enabled          whether lookups are served through the timeline cache
+     * @param maximumSize      maximum number of product/brand timelines kept in the cache
+     * @param expireAfterWrite upper bound for the lifetime of an entry whose price does not change sooner
+     */
+    public record Cache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100000") long maximumSize,
+            @DefaultValue("1h") Duration expireAfterWrite,
+            @DefaultValue Prewarm prewarm) {
+    }
+
+    /**
+     * @param enabled      whether timelines are loaded into the cache ahead of upcoming price boundaries
+     * @param lookahead    how far ahead each scan looks for prices starting or ending
+     * @param scanInterval delay between the end of a scan and the start of the next one
+     * @param lead         how long before a boundary its product/brand timelines are loaded
+     */
+    public record Prewarm(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10m") Duration lookahead,
+            @DefaultValue("1m") Duration scanInterval,
+            @DefaultValue("5s") Duration lead) {
+    }
+
+    /**
+     * @param enabled whether concurrent identical single-price queries share one database call
+     */
+    public record SingleFlight(@DefaultValue("false") boolean enabled) {
+    }
+
+    /**
+     * @param enabled               whether concurrent pricing requests are capped
+     * @param maxConcurrentRequests requests allowed in flight at once; keep it close to the connection pool size
+     * @param acquireTimeout        how long a request waits for a slot before being rejected with 503
+     */
+    public record Concurrency(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("64") int maxConcurrentRequests,
+            @DefaultValue("1s") Duration acquireTimeout) {
+    }
+
+    /**
+     * Connection settings of the reactive adapter, used only when the application runs on WebFlux.
+     *
+     * @param url             R2DBC URL of the database holding the {@code prices} table
+     * @param maximumPoolSize maximum number of pooled R2DBC connections
+     */
+    public record R2dbc(
+            @DefaultValue("r2dbc:h2:mem:///pricesdb") String url,
+            @DefaultValue("sa") String username,
+            @DefaultValue("") String password,
+            @DefaultValue("16") int maximumPoolSize) {
+    }
+
+    /**
+     * @param chunkSize rows written and committed per batch insert
+     * @param file      CSV ({@code .csv}) or JSON-lines ({@code .ndjson}, {@code .jsonl}) feed imported at startup, if set
+     */
+    public record BulkImport(
+            @DefaultValue("5000") int chunkSize,
+            String file) {
+    }
+
+    /**
+     * @param maxAge upper bound for the {@code Cache-Control} max-age of a price response; responses
+     *               whose price stops applying sooner get the time left instead
+     */
+    public record HttpCache(@DefaultValue("1h") Duration maxAge) {
+    }
+
+    /**
+     * @param enabled      whether brands are partitioned across nodes
+     * @param localNode    name of this node in {@code nodes}
+     * @param nodes        base URL of every node, keyed by node name; only this node when empty
+     * @param virtualNodes points per node on the consistent hash ring
+     * @param timeout      connect and read timeout of requests forwarded to other nodes
+     */
+    public record Sharding(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("node-1") String localNode,
+            @DefaultValue Map<String, String> nodes,
+            @DefaultValue("128") int virtualNodes,
+            @DefaultValue("2s") Duration timeout) {
+    }
+
+    /**
+     * @param enabled   whether committed price writes are published to listeners that patch or drop
+     *                  the in-memory index and timeline cache entries of the affected product/brand
+     * @param transport {@code local} to deliver changes within this node, {@code http} to also post
+     *                  them to {@code peers}
+     * @param peers     base URL of every other node, for the {@code http} transport
+     * @param timeout   connect and read timeout of changes posted to peers
+     */
+    public record ChangeFeed(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("local") String transport,
+            @DefaultValue List<String> peers,
+            @DefaultValue("2s") Duration timeout) {
+    }
+
+    /**
+     * @param enabled             whether price lookups are also served over gRPC
+     * @param port                port of the gRPC server; {@code 0} picks a free one
+     * @param shutdownGracePeriod how long calls in flight may run once the server stops taking new ones
+     */
+    public record Grpc(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("9090") int port,
+            @DefaultValue("10s") Duration shutdownGracePeriod) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.application.service.ReactiveFindApplicablePriceService;
+import com.example.pricing_service.application.usecase.ReactiveFindApplicablePriceUseCase;
+import com.example.pricing_service.domain.port.out.ReactivePriceRepository;
+import com.example.pricing_service.infrastructure.adapter.out.r2dbc.PriceR2dbcAdapter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the non-blocking lookup path when the application runs on WebFlux ({@code reactive} profile).
+ * <p>
+ * The R2DBC pool is owned by the adapter and deliberately not exposed as a {@code ConnectionFactory}
+ * bean: Spring Boot would otherwise run {@code data.sql} through it instead of through the JDBC data
+ * source, before Hibernate has created the schema.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePricingConfig {
+
+    @Bean
+    public ReactivePriceRepository priceR2dbcAdapter(PricingProperties properties) {
+        PricingProperties.R2dbc settings = properties.r2dbc();
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(settings.url())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, settings.username())
+                .option(ConnectionFactoryOptions.PASSWORD, settings.password())
+                .build();
+        return new PriceR2dbcAdapter(new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(settings.maximumPoolSize())
+                .build()));
+    }
+
+    @Bean
+    public ReactiveFindApplicablePriceUseCase reactiveFindApplicablePriceUseCase(ReactivePriceRepository priceRepository) {
+        return new ReactiveFindApplicablePriceService(priceRepository);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.pricing_service.infrastructure.config;
+
+import com.example.pricing_service.application.service.FindApplicablePriceService;
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import com.example.pricing_service.infrastructure.cache.CachingFindApplicablePriceUseCase;
+import com.example.pricing_service.infrastructure.cache.PriceTimelineCache;
+import com.example.pricing_service.infrastructure.sharding.RemotePriceClient;
+import com.example.pricing_service.infrastructure.sharding.ShardMap;
+import com.example.pricing_service.infrastructure.sharding.ShardingFindApplicablePriceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public static final String LOCAL_USE_CASE = "localFindApplicablePriceUseCase";
+
+    @Bean
+    public ShardMap shardMap(PricingProperties properties) {
+        PricingProperties.Sharding settings = properties.sharding();
+        Map<String, String> nodes = settings.nodes().isEmpty()
+                ? Map.of(settings.localNode(), "")
+                : settings.nodes();
+        return new ShardMap(settings.localNode(), nodes, settings.virtualNodes());
+    }
+
+    @Bean
+    public RemotePriceClient remotePriceClient(
+            RestClient.Builder restClientBuilder,
+            PriceDtoMapper mapper,
+            PricingProperties properties) {
+
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(properties.sharding().timeout())
+                .withReadTimeout(properties.sharding().timeout());
+        return new RemotePriceClient(
+                restClientBuilder.requestFactory(ClientHttpRequestFactories.get(settings)).build(),
+                mapper);
+    }
+
+    /**
+     * What this node answers for its own brands: the timeline cache when it is enabled (its config
+     * leaves the {@code @Primary} slot to the router), the plain service otherwise.
+     */
+    @Bean(LOCAL_USE_CASE)
+    public FindApplicablePriceUseCase localFindApplicablePriceUseCase(
+            FindApplicablePriceService service,
+            ObjectProvider<PriceTimelineCache> cache) {
+
+        PriceTimelineCache timelineCache = cache.getIfAvailable();
+        return timelineCache == null ? service : new CachingFindApplicablePriceUseCase(timelineCache, service);
+    }
+
+    @Bean
+    @Primary
+    public FindApplicablePriceUseCase shardingFindApplicablePriceUseCase(
+            @Qualifier(LOCAL_USE_CASE) FindApplicablePriceUseCase local,
+            ShardMap shardMap,
+            RemotePriceClient remotePriceClient,
+            MeterRegistry meterRegistry) {
+
+        return new ShardingFindApplicablePriceUseCase(local, shardMap, remotePriceClient, meterRegistry);
+    }
+}
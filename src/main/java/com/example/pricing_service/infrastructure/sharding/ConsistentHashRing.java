@@ -0,0 +1,86 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Consistent hash ring assigning brand ids to nodes.
+ * <p>
+ * Every node is placed on the ring at {@code virtualNodes} points, and a brand belongs to the node at
+ * the first point at or after the brand's hash, wrapping around. Adding a node therefore only takes
+ * over brands from its neighbours on the ring (about {@code 1/n} of them) and never moves a brand
+ * between two nodes that were already there. Points are held in sorted primitive arrays, so a lookup
+ * is a single binary search.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+
+    private ConsistentHashRing(long[] points, String[] owners) {
+        this.points = points;
+        this.owners = owners;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive, got " + virtualNodes);
+        }
+        record Point(long hash, String owner) {
+        }
+        List<Point> ring = nodes.stream()
+                .distinct()
+                .flatMap(node -> IntStream.range(0, virtualNodes)
+                        .mapToObj(replica -> new Point(hash(node + "#" + replica), node)))
+                // Ties between nodes are broken by name, so every instance builds the same ring
+                .sorted(Comparator.comparingLong(Point::hash).thenComparing(Point::owner))
+                .toList();
+        return new ConsistentHashRing(
+                ring.stream().mapToLong(Point::hash).toArray(),
+                ring.stream().map(Point::owner).toArray(String[]::new));
+    }
+
+    public String ownerOf(long brandId) {
+        int index = Arrays.binarySearch(points, mix(brandId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * First eight bytes of the MD5 of the point name: only computed when the ring is built, and the
+     * same on every JVM, unlike {@link String#hashCode()} mixing.
+     */
+    private static long hash(String pointName) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(pointName.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required on every Java platform", e);
+        }
+    }
+
+    /**
+     * Finalizer of MurmurHash3: spreads consecutive brand ids over the whole ring.
+     */
+    private static long mix(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
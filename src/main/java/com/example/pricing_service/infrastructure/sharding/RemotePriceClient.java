@@ -0,0 +1,80 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import com.example.pricing_service.domain.model.ApplicablePrice;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.ShardPriceResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.mapper.PriceDtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Forwards lookups to the {@code /internal/prices} endpoints of the node owning a brand. Those
+ * endpoints always answer from the receiving node's own data, so a forwarded request is never
+ * forwarded again.
+ */
+@RequiredArgsConstructor
+public class RemotePriceClient {
+
+    static final String LOOKUP_PATH = "/internal/prices";
+    static final String BATCH_PATH = "/internal/prices/batch";
+
+    private static final ParameterizedTypeReference<List<ShardPriceResponse>> BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+    private final PriceDtoMapper mapper;
+
+    /**
+     * Returns the applicable price on the given node, or empty when the node has none.
+     */
+    public Optional<ApplicablePrice> findApplicablePrice(ShardMap.Shard shard, PriceQuery query) {
+        try {
+            ShardPriceResponse response = restClient.get()
+                    .uri(shard.url() + LOOKUP_PATH + "?applicationDate={applicationDate}&productId={productId}&brandId={brandId}"
+                                    + (query.isHistorical() ? "&asOf={asOf}" : ""),
+                            DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(query.applicationDate()),
+                            query.productId(),
+                            query.brandId(),
+                            query.isHistorical() ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(query.asOf()) : null)
+                    .retrieve()
+                    .body(ShardPriceResponse.class);
+            return Optional.ofNullable(response).map(mapper::toApplicablePrice);
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException(shard.node(), e);
+        }
+    }
+
+    /**
+     * Resolves the queries on the given node. Returns one entry per query, in query order, with
+     * {@code null} for queries without an applicable price.
+     */
+    public List<Price> findApplicablePrices(ShardMap.Shard shard, List<PriceQuery> queries) {
+        try {
+            List<ShardPriceResponse> responses = restClient.post()
+                    .uri(shard.url() + BATCH_PATH)
+                    .body(new PriceBatchRequest(mapper.toItems(queries)))
+                    .retrieve()
+                    .body(BATCH_RESPONSE);
+            if (responses == null || responses.size() != queries.size()) {
+                throw new IllegalStateException("Expected " + queries.size() + " results from node " + shard.node());
+            }
+            return responses.stream()
+                    .map(response -> response == null ? null : mapper.toPrice(response))
+                    .toList();
+        } catch (RestClientException | IllegalStateException e) {
+            throw new ShardUnavailableException(shard.node(), e);
+        }
+    }
+}
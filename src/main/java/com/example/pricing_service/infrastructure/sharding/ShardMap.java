@@ -0,0 +1,65 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Which node owns which brand, and where to reach it.
+ * <p>
+ * The node list can be replaced at runtime to add or remove nodes. Lookups read an immutable
+ * topology through a single reference, so a request never sees the ring of one map and the URLs of
+ * another. Every node should be given the same map; a brand whose owner changed is only served with
+ * the new owner's rows once those rows have been loaded there.
+ */
+public class ShardMap {
+
+    private final String localNode;
+    private final int virtualNodes;
+    private final AtomicReference<Topology> topology = new AtomicReference<>();
+
+    public ShardMap(String localNode, Map<String, String> nodes, int virtualNodes) {
+        this.localNode = localNode;
+        this.virtualNodes = virtualNodes;
+        update(nodes);
+    }
+
+    public Shard shardOf(long brandId) {
+        Topology current = topology.get();
+        String owner = current.ring().ownerOf(brandId);
+        return new Shard(owner, current.urls().get(owner), owner.equals(localNode));
+    }
+
+    /**
+     * Replaces the node list, keyed by node name with each node's base URL.
+     */
+    public void update(Map<String, String> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("The shard map needs at least one node");
+        }
+        Map<String, String> urls = Collections.unmodifiableMap(new LinkedHashMap<>(nodes));
+        topology.set(new Topology(ConsistentHashRing.of(urls.keySet(), virtualNodes), urls));
+    }
+
+    public Map<String, String> nodes() {
+        return topology.get().urls();
+    }
+
+    public String localNode() {
+        return localNode;
+    }
+
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * Owner of a brand; {@code url} is the base URL requests for a remote owner are forwarded to.
+     */
+    public record Shard(String node, String url, boolean local) {
+    }
+
+    private record Topology(ConsistentHashRing ring, Map<String, String> urls) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+/**
+ * Thrown when the node owning a brand cannot be reached or fails to answer a forwarded lookup.
+ */
+public class ShardUnavailableException extends RuntimeException {
+
+    public ShardUnavailableException(String node, Throwable cause) {
+        super(String.format("Node '%s' owning the requested brand is unavailable", node), cause);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves {@link FindApplicablePriceUseCase} lookups for the brands this node owns from the local use
+ * case, and forwards the others to their owner with a {@link RemotePriceClient}.
+ * <p>
+ * A batch is split by owner: each node gets one request with its share of the queries, and results
+ * are put back in the order of the original batch.
+ */
+public class ShardingFindApplicablePriceUseCase implements FindApplicablePriceUseCase {
+
+    private final FindApplicablePriceUseCase local;
+    private final ShardMap shardMap;
+    private final RemotePriceClient remote;
+    private final Counter localLookups;
+    private final Counter remoteLookups;
+
+    public ShardingFindApplicablePriceUseCase(FindApplicablePriceUseCase local,
+                                              ShardMap shardMap,
+                                              RemotePriceClient remote,
+                                              MeterRegistry meterRegistry) {
+        this.local = local;
+        this.shardMap = shardMap;
+        this.remote = remote;
+        this.localLookups = lookups(meterRegistry, "local");
+        this.remoteLookups = lookups(meterRegistry, "remote");
+    }
+
+    @Override
+    public Price findApplicablePrice(PriceQuery query) {
+        ShardMap.Shard shard = shardMap.shardOf(query.brandId());
+        if (shard.local()) {
+            localLookups.increment();
+            return local.findApplicablePrice(query);
+        }
+        return findRemote(shard, query).price();
+    }
+
+    @Override
+    public ApplicablePrice findApplicablePriceWithValidity(PriceQuery query) {
+        ShardMap.Shard shard = shardMap.shardOf(query.brandId());
+        if (shard.local()) {
+            localLookups.increment();
+            return local.findApplicablePriceWithValidity(query);
+        }
+        return findRemote(shard, query);
+    }
+
+    @Override
+    public List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries) {
+        Map<ShardMap.Shard, List<Integer>> positionsByShard = new LinkedHashMap<>();
+        for (int position = 0; position < queries.size(); position++) {
+            positionsByShard
+                    .computeIfAbsent(shardMap.shardOf(queries.get(position).brandId()), shard -> new ArrayList<>())
+                    .add(position);
+        }
+
+        PriceLookupResult[] results = new PriceLookupResult[queries.size()];
+        positionsByShard.forEach((shard, positions) -> {
+            List<PriceQuery> share = positions.stream().map(queries::get).toList();
+            List<Price> prices;
+            if (shard.local()) {
+                localLookups.increment(share.size());
+                prices = local.findApplicablePrices(share).stream().map(PriceLookupResult::price).toList();
+            } else {
+                remoteLookups.increment(share.size());
+                prices = remote.findApplicablePrices(shard, share);
+            }
+            for (int i = 0; i < positions.size(); i++) {
+                results[positions.get(i)] = new PriceLookupResult(share.get(i), prices.get(i));
+            }
+        });
+        return List.of(results);
+    }
+
+    private ApplicablePrice findRemote(ShardMap.Shard shard, PriceQuery query) {
+        remoteLookups.increment();
+        return remote.findApplicablePrice(shard, query)
+                .orElseThrow(() -> PriceNotFoundException.forQuery(query.productId(), query.brandId()));
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("pricing.shard.lookups")
+                .description("Price lookups by whether this node owns the brand or forwarded them")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
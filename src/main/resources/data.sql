@@ -3,4 +3,10 @@ VALUES
 (1, '2020-06-14T00:00:00', '2020-12-31T23:59:59', 1, 35455, 0, 35.50, 'EUR'),
 (1, '2020-06-14T15:00:00', '2020-06-14T18:30:00', 2, 35455, 1, 25.45, 'EUR'),
 (1, '2020-06-15T00:00:00', '2020-06-15T11:00:00', 3, 35455, 1, 30.50, 'EUR'),
-(1, '2020-06-15T16:00:00', '2020-12-31T23:59:59', 4, 35455, 1, 38.95, 'EUR');
\ No newline at end of file
+(1, '2020-06-15T16:00:00', '2020-12-31T23:59:59', 4, 35455, 1, 38.95, 'EUR');
+
+-- Seed rows enter the history when the database is initialized, like any other write
+INSERT INTO price_history (price_id, brand_id, product_id, price_list, priority, start_date, end_date, price, curr,
+                           version, operation, recorded_at)
+SELECT id, brand_id, product_id, price_list, priority, start_date, end_date, price, curr, version, 'CREATED', LOCALTIMESTAMP
+FROM prices;
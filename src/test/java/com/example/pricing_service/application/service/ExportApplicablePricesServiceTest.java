@@ -0,0 +1,78 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExportApplicablePricesServiceTest {
+
+    private static final LocalDateTime INSTANT = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceCatalogReader catalogReader;
+
+    @InjectMocks
+    private ExportApplicablePricesService service;
+
+    @Test
+    void shouldEmitFirstRowOfEachProduct() {
+        // Given
+        List<Price> rows = List.of(
+                price(35455L, 2L, 1),
+                price(35455L, 1L, 0),
+                price(35456L, 7L, 0),
+                price(35457L, 3L, 2),
+                price(35457L, 4L, 1));
+        doAnswer(invocation -> {
+            Consumer<Price> consumer = invocation.getArgument(2);
+            rows.forEach(consumer);
+            return null;
+        }).when(catalogReader).forEachApplicable(eq(1L), eq(INSTANT), any());
+        List<Price> exported = new ArrayList<>();
+
+        // When
+        long count = service.exportApplicablePrices(1L, INSTANT, exported::add);
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(List.of(2L, 7L, 3L), exported.stream().map(Price::getPriceList).toList());
+    }
+
+    @Test
+    void shouldEmitNothingForEmptyCatalogue() {
+        // When
+        long count = service.exportApplicablePrices(1L, INSTANT, price -> fail("Unexpected price " + price));
+
+        // Then
+        assertEquals(0, count);
+    }
+
+    private static Price price(Long productId, Long priceList, int priority) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .finalPrice(BigDecimal.TEN)
+                .currency("EUR")
+                .build();
+    }
+}
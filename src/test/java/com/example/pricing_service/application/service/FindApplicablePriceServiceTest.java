@@ -1,13 +1,20 @@
 package com.example.pricing_service.application.service;
 
 import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookupResult;
 import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.port.out.PriceHistoryRepository;
 import com.example.pricing_service.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -24,6 +31,12 @@ class FindApplicablePriceServiceTest {
     @Mock
     private PriceRepository priceRepository;
 
+    @Mock
+    private PriceHistoryRepository priceHistory;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private FindApplicablePriceService service;
 
@@ -48,8 +61,8 @@ class FindApplicablePriceServiceTest {
                 .currency("EUR")
                 .build();
 
-        when(priceRepository.findByQuery(any()))
-                .thenReturn(List.of(expectedPrice));
+        when(priceRepository.findApplicable(any()))
+                .thenReturn(Optional.of(expectedPrice));
 
         // When
         Price result = service.findApplicablePrice(query);
@@ -58,7 +71,7 @@ class FindApplicablePriceServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals(new BigDecimal("35.50"), result.getFinalPrice());
-        verify(priceRepository, times(1)).findByQuery(query);
+        verify(priceRepository, times(1)).findApplicable(query);
     }
 
     // ... mantener imports existentes ...
@@ -75,7 +88,7 @@ class FindApplicablePriceServiceTest {
                 .brandId(brandId)
                 .build();
 
-        when(priceRepository.findByQuery(any())).thenReturn(List.of());
+        when(priceRepository.findApplicable(any())).thenReturn(Optional.empty());
 
         // When & Then
         PriceNotFoundException exception = assertThrows(
@@ -86,5 +99,132 @@ class FindApplicablePriceServiceTest {
         // Verificamos que el mensaje de error sea el esperado (inyectado por PriceNotFoundException.forQuery)
         String expectedMessage = String.format("No applicable price found for productId=%d and brandId=%d", productId, brandId);
         assertEquals(expectedMessage, exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("pricing.lookups").tag("result", "not_found").counter().count());
+    }
+
+    @Test
+    void shouldResolveBatchWithSingleRepositoryCall() {
+        // Given
+        LocalDateTime morning = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Price basePrice = Price.builder()
+                .id(1L).brandId(1L).productId(35455L).priceList(1L).priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .finalPrice(new BigDecimal("35.50")).currency("EUR")
+                .build();
+        Price promotion = Price.builder()
+                .id(2L).brandId(1L).productId(35455L).priceList(2L).priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .finalPrice(new BigDecimal("25.45")).currency("EUR")
+                .build();
+        List<PriceQuery> queries = List.of(
+                PriceQuery.builder().applicationDate(morning).productId(35455L).brandId(1L).build(),
+                PriceQuery.builder().applicationDate(afternoon).productId(35455L).brandId(1L).build(),
+                PriceQuery.builder().applicationDate(morning).productId(99999L).brandId(1L).build()
+        );
+
+        when(priceRepository.findByQueries(queries)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        List<PriceLookupResult> results = service.findApplicablePrices(queries);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals(1L, results.get(0).price().getPriceList());
+        assertEquals(2L, results.get(1).price().getPriceList());
+        assertFalse(results.get(2).isFound());
+        assertSame(queries.get(2), results.get(2).query());
+        verify(priceRepository, times(1)).findByQueries(queries);
+        verifyNoMoreInteractions(priceRepository);
+    }
+
+    @Test
+    void shouldEndValidityWhenAnOutrankingPriceStarts() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(35455L)
+                .brandId(1L)
+                .build();
+        Price basePrice = Price.builder()
+                .id(1L).brandId(1L).productId(35455L).priceList(1L).priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .finalPrice(new BigDecimal("35.50")).currency("EUR").version(3L)
+                .build();
+
+        when(priceRepository.findApplicable(query)).thenReturn(Optional.of(basePrice));
+        when(priceRepository.findNextOutrankingStart(basePrice, applicationDate))
+                .thenReturn(Optional.of(LocalDateTime.of(2020, 6, 14, 15, 0)));
+
+        // When
+        ApplicablePrice result = service.findApplicablePriceWithValidity(query);
+
+        // Then
+        assertSame(basePrice, result.price());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 14, 59, 59), result.validUntil());
+    }
+
+    @Test
+    void shouldKeepValidityUntilEndDateWhenNothingOutranksThePrice() {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(35455L)
+                .brandId(1L)
+                .build();
+        Price promotion = Price.builder()
+                .id(2L).brandId(1L).productId(35455L).priceList(2L).priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .finalPrice(new BigDecimal("25.45")).currency("EUR")
+                .build();
+
+        when(priceRepository.findApplicable(query)).thenReturn(Optional.of(promotion));
+        when(priceRepository.findNextOutrankingStart(promotion, applicationDate)).thenReturn(Optional.empty());
+
+        // When
+        ApplicablePrice result = service.findApplicablePriceWithValidity(query);
+
+        // Then
+        assertEquals(promotion.getEndDate(), result.validUntil());
+    }
+
+    @Test
+    void shouldResolveHistoricalQueriesFromTheHistoryOnly() {
+        // Given
+        LocalDateTime asOf = LocalDateTime.of(2020, 6, 1, 0, 0);
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 16, 0))
+                .productId(35455L)
+                .brandId(1L)
+                .asOf(asOf)
+                .build();
+        Price basePrice = Price.builder()
+                .id(1L).brandId(1L).productId(35455L).priceList(1L).priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .finalPrice(new BigDecimal("35.50")).currency("EUR").version(0L)
+                .build();
+        Price promotion = Price.builder()
+                .id(2L).brandId(1L).productId(35455L).priceList(2L).priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .finalPrice(new BigDecimal("25.45")).currency("EUR").version(0L)
+                .build();
+
+        when(priceHistory.findAsOf(new PriceKey(1L, 35455L), asOf)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        ApplicablePrice result = service.findApplicablePriceWithValidity(query);
+
+        // Then
+        assertEquals(2L, result.price().getPriceList());
+        assertEquals(promotion.getEndDate(), result.validUntil());
+        verifyNoInteractions(priceRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceImportReport;
+import com.example.pricing_service.domain.port.out.PriceWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportPricesServiceTest {
+
+    @Mock
+    private PriceWriter priceWriter;
+
+    @Test
+    void shouldWriteAcceptedLinesInChunks() {
+        // Given
+        List<Integer> chunkSizes = new ArrayList<>();
+        doAnswer(invocation -> chunkSizes.add(invocation.<List<Price>>getArgument(0).size()))
+                .when(priceWriter).saveAll(anyList());
+        ImportPricesService service = new ImportPricesService(priceWriter, 2);
+
+        // When
+        PriceImportReport report = service.importPrices(LongStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceFeedLine.accepted(line, price("2020-06-15T00:00:00", "35.50"))));
+
+        // Then
+        assertEquals(5, report.imported());
+        assertEquals(0, report.rejected());
+        assertEquals(List.of(2, 2, 1), chunkSizes);
+    }
+
+    @Test
+    void shouldReportUnparseableAndInvalidLinesWithoutWritingThem() {
+        // Given
+        ImportPricesService service = new ImportPricesService(priceWriter, 100);
+
+        // When
+        PriceImportReport report = service.importPrices(Stream.of(
+                PriceFeedLine.accepted(1, price("2020-06-15T00:00:00", "35.50")),
+                PriceFeedLine.rejected(2, "invalid number"),
+                PriceFeedLine.accepted(3, price("2020-06-13T00:00:00", "35.50")),
+                PriceFeedLine.accepted(4, price("2020-06-15T00:00:00", "35.505")),
+                PriceFeedLine.accepted(5, price("2020-06-15T00:00:00.500", "35.50"))));
+
+        // Then
+        assertEquals(1, report.imported());
+        assertEquals(4, report.rejected());
+        assertEquals(List.of(
+                new PriceImportReport.Rejection(2, "invalid number"),
+                new PriceImportReport.Rejection(3, "endDate is before startDate"),
+                new PriceImportReport.Rejection(4, "price must have at most 2 decimals"),
+                new PriceImportReport.Rejection(5, "startDate and endDate must be whole seconds")
+        ), report.rejections());
+        verify(priceWriter, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldCapReportedRejections() {
+        // Given
+        ImportPricesService service = new ImportPricesService(priceWriter, 100);
+
+        // When
+        PriceImportReport report = service.importPrices(LongStream.rangeClosed(1, 1000)
+                .mapToObj(line -> PriceFeedLine.rejected(line, "malformed JSON")));
+
+        // Then
+        assertEquals(1000, report.rejected());
+        assertEquals(ImportPricesService.MAX_REPORTED_REJECTIONS, report.rejections().size());
+        verifyNoInteractions(priceWriter);
+    }
+
+    private static Price price(String endDate, String amount) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(1L)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.parse(endDate))
+                .finalPrice(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.pricing_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTimelineTest {
+
+    private static final List<Price> SAMPLE_ROWS = List.of(
+            price(1L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+            price(2L, 2L, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+            price(3L, 3L, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00"),
+            price(4L, 4L, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59")
+    );
+
+    @Test
+    void shouldResolveSameWinnerAsPriorityRules() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        assertEquals(1L, priceListAt(timeline, "2020-06-14T10:00:00"));
+        assertEquals(2L, priceListAt(timeline, "2020-06-14T16:00:00"));
+        assertEquals(1L, priceListAt(timeline, "2020-06-14T21:00:00"));
+        assertEquals(3L, priceListAt(timeline, "2020-06-15T10:00:00"));
+        assertEquals(4L, priceListAt(timeline, "2020-06-16T21:00:00"));
+    }
+
+    @Test
+    @DisplayName("Should treat start and end dates as inclusive segment bounds")
+    void shouldTreatBoundsAsInclusive() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        assertEquals(2L, priceListAt(timeline, "2020-06-14T15:00:00"));
+        assertEquals(2L, priceListAt(timeline, "2020-06-14T18:30:00"));
+        assertEquals(1L, priceListAt(timeline, "2020-06-14T18:30:01"));
+        assertEquals(4L, priceListAt(timeline, "2020-12-31T23:59:59"));
+    }
+
+    @Test
+    void shouldNotApplyRowAfterItsEndDateWithinTheSameSecond() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+        LocalDateTime halfPastEnd = LocalDateTime.parse("2020-06-14T18:30:00.5");
+
+        assertEquals(1L, timeline.priceAt(halfPastEnd).orElseThrow().getPriceList());
+        assertEquals(2L, priceListAt(timeline, "2020-06-14T18:29:59.5"));
+        assertTrue(SAMPLE_ROWS.get(1).isApplicableFor(LocalDateTime.parse("2020-06-14T18:29:59.5")));
+        assertFalse(SAMPLE_ROWS.get(1).isApplicableFor(halfPastEnd));
+    }
+
+    @Test
+    void shouldNotApplyRowBeforeItsStartDateWithinThePreviousSecond() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        assertEquals(1L, priceListAt(timeline, "2020-06-14T14:59:59.5"));
+        assertTrue(timeline.priceAt(LocalDateTime.parse("2020-12-31T23:59:59.5")).isEmpty());
+        assertTrue(timeline.priceAt(LocalDateTime.parse("2020-06-13T23:59:59.5")).isEmpty());
+    }
+
+    @Test
+    void shouldSkipRowsThatEndBeforeTheyStart() {
+        PriceTimeline timeline = PriceTimeline.compile(List.of(
+                price(1L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+                price(2L, 2L, 1, "2020-06-15T00:00:00", "2020-06-14T00:00:00")
+        ));
+
+        assertEquals(1, timeline.rowCount());
+        assertEquals(1, timeline.skippedRowCount());
+        assertEquals(1L, priceListAt(timeline, "2020-06-14T12:00:00"));
+        assertEquals(0, timeline.with(price(3L, 3L, 1, "2020-06-16T00:00:00", "2020-06-17T00:00:00")).skippedRowCount());
+    }
+
+    @Test
+    void shouldReturnEmptyOutsideAnyPrice() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        assertTrue(timeline.priceAt(LocalDateTime.parse("2020-06-13T23:59:59")).isEmpty());
+        assertTrue(timeline.priceAt(LocalDateTime.parse("2021-01-01T00:00:00")).isEmpty());
+    }
+
+    @Test
+    void shouldBreakPriorityTiesWithMostRecentStartDate() {
+        PriceTimeline timeline = PriceTimeline.compile(List.of(
+                price(1L, 1L, 1, "2020-06-14T00:00:00", "2020-06-20T00:00:00"),
+                price(2L, 2L, 1, "2020-06-16T00:00:00", "2020-06-18T00:00:00")
+        ));
+
+        assertEquals(1L, priceListAt(timeline, "2020-06-15T00:00:00"));
+        assertEquals(2L, priceListAt(timeline, "2020-06-17T00:00:00"));
+        assertEquals(1L, priceListAt(timeline, "2020-06-19T00:00:00"));
+    }
+
+    @Test
+    void shouldRecompileWhenRowIsAddedReplacedOrRemoved() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        PriceTimeline added = timeline.with(price(5L, 5L, 2, "2020-06-14T09:00:00", "2020-06-14T11:00:00"));
+        assertEquals(5L, priceListAt(added, "2020-06-14T10:00:00"));
+        assertEquals(5, added.rowCount());
+
+        PriceTimeline replaced = added.with(price(5L, 5L, 2, "2020-06-14T20:00:00", "2020-06-14T22:00:00"));
+        assertEquals(1L, priceListAt(replaced, "2020-06-14T10:00:00"));
+        assertEquals(5L, priceListAt(replaced, "2020-06-14T21:00:00"));
+        assertEquals(5, replaced.rowCount());
+
+        PriceTimeline removed = replaced.without(2L);
+        assertEquals(1L, priceListAt(removed, "2020-06-14T16:00:00"));
+        assertEquals(4, removed.rowCount());
+        assertSame(removed, removed.without(42L));
+    }
+
+    @Test
+    void shouldListSegmentsClippedToWindow() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        List<PriceSegment> segments = timeline.segmentsBetween(
+                LocalDateTime.parse("2020-06-14T12:00:00"), LocalDateTime.parse("2020-06-15T10:00:00")).toList();
+
+        assertEquals(4, segments.size());
+        assertSegment(segments.get(0), "2020-06-14T12:00:00", "2020-06-14T14:59:59", 1L);
+        assertSegment(segments.get(1), "2020-06-14T15:00:00", "2020-06-14T18:30:00", 2L);
+        assertSegment(segments.get(2), "2020-06-14T18:30:01", "2020-06-14T23:59:59", 1L);
+        assertSegment(segments.get(3), "2020-06-15T00:00:00", "2020-06-15T10:00:00", 3L);
+    }
+
+    @Test
+    void shouldListNoSegmentsOutsideAnyPrice() {
+        PriceTimeline timeline = PriceTimeline.compile(SAMPLE_ROWS);
+
+        assertEquals(0, timeline.segmentsBetween(
+                LocalDateTime.parse("2019-01-01T00:00:00"), LocalDateTime.parse("2019-12-31T00:00:00")).count());
+        assertEquals(0, timeline.segmentsBetween(
+                LocalDateTime.parse("2021-01-01T00:00:00"), LocalDateTime.parse("2021-12-31T00:00:00")).count());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the winning row from its compact form and reuse it across lookups")
+    void shouldMaterializeWinnerOnce() {
+        PriceTimeline timeline = PriceTimeline.compile(List.of(Price.builder()
+                .id(9L)
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T18:30:00"))
+                .finalPrice(new BigDecimal("25.45"))
+                .currency(new String("EUR"))
+                .build()));
+
+        Price first = timeline.priceAt(LocalDateTime.parse("2020-06-14T16:00:00")).orElseThrow();
+        Price second = timeline.priceAt(LocalDateTime.parse("2020-06-14T17:00:00")).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(9L, first.getId());
+        assertEquals(1L, first.getBrandId());
+        assertEquals(35455L, first.getProductId());
+        assertEquals(LocalDateTime.parse("2020-06-14T15:00:00"), first.getStartDate());
+        assertEquals(LocalDateTime.parse("2020-06-14T18:30:00"), first.getEndDate());
+        assertEquals(new BigDecimal("25.45"), first.getFinalPrice());
+        assertSame("EUR", first.getCurrency());
+    }
+
+    private static void assertSegment(PriceSegment segment, String start, String end, Long priceList) {
+        assertEquals(LocalDateTime.parse(start), segment.startDate());
+        assertEquals(LocalDateTime.parse(end), segment.endDate());
+        assertEquals(priceList, segment.price().getPriceList());
+    }
+
+    private static Long priceListAt(PriceTimeline timeline, String applicationDate) {
+        return timeline.priceAt(LocalDateTime.parse(applicationDate)).orElseThrow().getPriceList();
+    }
+
+    private static Price price(Long id, Long priceList, int priority, String start, String end) {
+        return Price.builder()
+                .id(id)
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .finalPrice(BigDecimal.TEN)
+                .currency("EUR")
+                .build();
+    }
+}
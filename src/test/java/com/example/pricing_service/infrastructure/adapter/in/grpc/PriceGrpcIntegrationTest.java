@@ -0,0 +1,163 @@
+package com.example.pricing_service.infrastructure.adapter.in.grpc;
+
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.Price;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookup;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceLookupResult;
+import com.example.pricing_service.infrastructure.adapter.in.grpc.proto.PriceServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "pricing.grpc.enabled=true",
+        "pricing.grpc.port=0"
+})
+class PriceGrpcIntegrationTest {
+
+    @Autowired
+    private PriceGrpcServer server;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void openChannel() {
+        channel = NettyChannelBuilder.forAddress("localhost", server.port()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void closeChannel() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldReturnTheApplicablePrice() {
+        Price price = PriceServiceGrpc.newBlockingStub(channel)
+                .getApplicablePrice(lookup("2020-06-14T16:00:00", 35455L));
+
+        assertEquals(2L, price.getPriceList());
+        assertEquals(2545L, price.getAmount());
+        assertEquals("EUR", price.getCurrency());
+        assertEquals(epochSecond("2020-06-14T15:00:00"), price.getStartDate());
+        assertEquals(epochSecond("2020-06-14T18:30:00"), price.getEndDate());
+        assertEquals(1, meterRegistry.get("pricing.grpc.calls")
+                .tags("method", "GetApplicablePrice", "status", "OK").timer().count());
+    }
+
+    @Test
+    void shouldFailWithNotFoundWhenNoPriceApplies() {
+        PriceServiceGrpc.PriceServiceBlockingStub stub = PriceServiceGrpc.newBlockingStub(channel);
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.getApplicablePrice(lookup("2019-01-01T00:00:00", 35455L)));
+
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    @Test
+    void shouldFailWithInvalidArgumentWhenTheLookupHasNoProduct() {
+        PriceServiceGrpc.PriceServiceBlockingStub stub = PriceServiceGrpc.newBlockingStub(channel);
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.getApplicablePrice(lookup("2020-06-14T16:00:00", 0L)));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    @Test
+    void shouldFailWithInvalidArgumentWhenTheLookupHasNoApplicationDate() {
+        PriceServiceGrpc.PriceServiceBlockingStub stub = PriceServiceGrpc.newBlockingStub(channel);
+        PriceLookup lookup = lookup("2020-06-14T16:00:00", 35455L).toBuilder().clearApplicationDate().build();
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> stub.getApplicablePrice(lookup));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    }
+
+    @Test
+    void shouldStreamOneResultPerLookupInOrder() throws Exception {
+        List<PriceLookup> lookups = List.of(
+                lookup("2020-06-14T10:00:00", 35455L),
+                lookup("2019-01-01T00:00:00", 35455L),
+                lookup("2020-06-14T16:00:00", 35455L),
+                lookup("2020-06-16T21:00:00", 35455L));
+        Results results = new Results();
+
+        StreamObserver<PriceLookup> requests = PriceServiceGrpc.newStub(channel).streamApplicablePrices(results);
+        lookups.forEach(requests::onNext);
+        requests.onCompleted();
+        results.done.get(10, TimeUnit.SECONDS);
+
+        assertEquals(lookups, results.received.stream().map(PriceLookupResult::getLookup).toList());
+        assertEquals(1L, results.received.get(0).getPrice().getPriceList());
+        assertFalse(results.received.get(1).hasPrice());
+        assertEquals(2L, results.received.get(2).getPrice().getPriceList());
+        assertEquals(4L, results.received.get(3).getPrice().getPriceList());
+    }
+
+    @Test
+    void shouldEndTheStreamWithInvalidArgumentOnAnInvalidLookup() throws Exception {
+        Results results = new Results();
+
+        StreamObserver<PriceLookup> requests = PriceServiceGrpc.newStub(channel).streamApplicablePrices(results);
+        requests.onNext(lookup("2020-06-14T16:00:00", 35455L));
+        requests.onNext(lookup("2020-06-14T16:00:00", 0L));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> results.done.get(10, TimeUnit.SECONDS));
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(error.getCause()).getCode());
+        assertEquals(1, results.received.size());
+    }
+
+    private static PriceLookup lookup(String applicationDate, long productId) {
+        return PriceLookup.newBuilder()
+                .setApplicationDate(epochSecond(applicationDate))
+                .setProductId(productId)
+                .setBrandId(1L)
+                .build();
+    }
+
+    private static long epochSecond(String dateTime) {
+        return LocalDateTime.parse(dateTime).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class Results implements StreamObserver<PriceLookupResult> {
+
+        private final List<PriceLookupResult> received = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        @Override
+        public void onNext(PriceLookupResult result) {
+            received.add(result);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            done.completeExceptionally(error);
+        }
+
+        @Override
+        public void onCompleted() {
+            done.complete(null);
+        }
+    }
+}
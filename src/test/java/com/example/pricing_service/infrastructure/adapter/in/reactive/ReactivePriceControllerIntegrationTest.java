@@ -0,0 +1,94 @@
+package com.example.pricing_service.infrastructure.adapter.in.reactive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactivePriceControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldReturnHighestPriorityPrice() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(2)
+                .jsonPath("$.finalPrice").isEqualTo(25.45)
+                .jsonPath("$.currency").isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldReturnPriceList4On16th() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-16T21:00:00&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.priceList").isEqualTo(4)
+                .jsonPath("$.finalPrice").isEqualTo(38.95);
+    }
+
+    @Test
+    void shouldReturn404WithErrorBodyWhenNoPriceFound() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2025-01-01T10:00:00&productId=123&brandId=1")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("PRICE_NOT_FOUND")
+                .jsonPath("$.message").value(containsString("productId=123"))
+                .jsonPath("$.path").isEqualTo("/prices");
+    }
+
+    @Test
+    void shouldReturn400WithErrorBodyWhenMissingParameter() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T10:00:00&productId=35455")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("MISSING_PARAMETER")
+                .jsonPath("$.message").isEqualTo("Required parameter 'brandId' is missing")
+                .jsonPath("$.path").isEqualTo("/prices");
+    }
+
+    @Test
+    void shouldReturn400WhenInvalidParameterType() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=NOT_A_NUMBER")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_PARAMETER_TYPE")
+                .jsonPath("$.message").value(containsString("brandId"))
+                .jsonPath("$.message").value(containsString("Long"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when applicationDate is only a date without time")
+    void shouldReturn400WhenDateHasNoTime() {
+        webTestClient.get()
+                .uri("/prices?applicationDate=2020-06-14&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_PARAMETER_TYPE")
+                .jsonPath("$.message").value(containsString("applicationDate"))
+                .jsonPath("$.message").value(containsString("LocalDateTime"));
+    }
+}
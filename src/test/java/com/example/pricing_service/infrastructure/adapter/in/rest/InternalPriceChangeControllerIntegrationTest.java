@@ -0,0 +1,91 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceInMemoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Rows are written with plain JDBC, as another node sharing the database would; they use brand 3,
+ * which no other test reads.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=in-memory",
+        "pricing.change-feed.enabled=true",
+        "pricing.change-feed.transport=http"
+})
+@AutoConfigureMockMvc
+class InternalPriceChangeControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PriceInMemoryAdapter inMemoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldApplyNoticedRowsAsStoredInTheDatabase() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr, version)
+                VALUES (3, '2020-06-14T00:00:00', '2020-12-31T23:59:59', 1, 91010, 0, 19.99, 'EUR', 0)""");
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM prices WHERE brand_id = 3 AND product_id = 91010", Long.class);
+
+        postChanges(notice(id, 91010L));
+
+        assertEquals(new BigDecimal("19.99"), inMemoryAdapter.findApplicable(query(3L, 91010L)).orElseThrow().getFinalPrice());
+
+        jdbcTemplate.update("DELETE FROM prices WHERE id = ?", id);
+        postChanges(notice(id, 91010L));
+
+        assertTrue(inMemoryAdapter.findApplicable(query(3L, 91010L)).isEmpty());
+    }
+
+    @Test
+    void shouldIgnorePriceContentInThePostedBody() throws Exception {
+        // A body claiming seed row 2 now costs 0.01 under another product
+        postChanges("""
+                [{"id": 2, "key": {"brandId": 1, "productId": 35455}, "previousKey": null,
+                  "committedAt": "2020-06-14T00:00:00Z", "price": 0.01, "productId": 99999}]""");
+
+        Price price = inMemoryAdapter.findApplicable(query(1L, 35455L)).orElseThrow();
+        assertEquals(new BigDecimal("25.45"), price.getFinalPrice());
+        assertTrue(inMemoryAdapter.findApplicable(query(1L, 99999L)).isEmpty());
+    }
+
+    private void postChanges(String body) throws Exception {
+        mockMvc.perform(post("/internal/price-changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent());
+    }
+
+    private static String notice(long id, long productId) {
+        return """
+                [{"id": %d, "key": {"brandId": 3, "productId": %d}, "committedAt": "2020-06-14T00:00:00Z"}]"""
+                .formatted(id, productId);
+    }
+
+    private static PriceQuery query(long brandId, long productId) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+                .productId(productId)
+                .brandId(brandId)
+                .build();
+    }
+}
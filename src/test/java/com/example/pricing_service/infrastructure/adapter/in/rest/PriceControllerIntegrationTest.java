@@ -1,14 +1,29 @@
 package com.example.pricing_service.infrastructure.adapter.in.rest;
 
+import com.example.pricing_service.infrastructure.adapter.in.rest.codec.PriceBinaryCodec;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -19,6 +34,9 @@ class PriceControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void test1_At10AMOn14th_ShouldReturnPrice35_50() throws Exception {
         mockMvc.perform(get("/prices")
@@ -206,4 +224,212 @@ class PriceControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(containsString("LocalDateTime")));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should tag the response with the winning row and cache it")
+    void shouldReturnETagAndCacheControl() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-0\""))
+                // The promotion ended in the past, so the response gets the configured upper bound
+                .andExpect(header().string("Cache-Control", "max-age=3600, public"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without a body when the ETag still matches")
+    void shouldReturn304WhenETagMatches() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-0\""))
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0\""));
+    }
+
+    @Test
+    @DisplayName("Should tag the binary body apart from the JSON one")
+    void shouldNotRevalidateOneRepresentationWithTheETagOfTheOther() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(PriceBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"2-0-binary\""));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(PriceBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"2-0-binary\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-0-binary\""));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.ALL)
+                        .header("If-None-Match", "\"2-0-binary\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"2-0\""));
+    }
+
+    @Test
+    @DisplayName("Should resolve every item of a batch and report not-found items inline")
+    void shouldResolveBatchWithInlineNotFound() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[2].price.priceList").value(4))
+                .andExpect(jsonPath("$.results[2].price.finalPrice").value(38.95))
+                .andExpect(jsonPath("$.results[3].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].productId").value(99999))
+                .andExpect(jsonPath("$.results[3].error.code").value("PRICE_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].price").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should encode the price in the binary format when the client accepts it")
+    void shouldReturnBinaryPriceWhenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(PriceBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        PriceResponse price = PriceBinaryCodec.decodePrice(ByteBuffer.wrap(body));
+        assertEquals(52, body.length);
+        assertEquals(2L, price.getPriceList());
+        assertEquals(new BigDecimal("25.45"), price.getFinalPrice());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate());
+        assertEquals("EUR", price.getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should encode a batch in the binary format when the client accepts it")
+    void shouldReturnBinaryBatchWhenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(PriceBinaryCodec.MEDIA_TYPE)
+                        .content("""
+                                {"items": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PriceBinaryCodec.MEDIA_TYPE))
+                .andReturn();
+
+        PriceBatchResponse batch = PriceBinaryCodec.decodeBatch(
+                ByteBuffer.wrap(result.getResponse().getContentAsByteArray()));
+        assertEquals(2, batch.results().size());
+        assertEquals(new BigDecimal("35.50"), batch.results().get(0).price().getFinalPrice());
+        assertEquals(PriceBatchResponse.Status.NOT_FOUND, batch.results().get(1).status());
+        assertEquals(99999L, batch.results().get(1).productId());
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default format and for errors")
+    void shouldKeepJsonAsDefaultAndForErrors() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1")
+                        .accept(PriceBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("PRICE_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch item misses a field")
+    void shouldReturn400WhenBatchItemIsInvalid() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"applicationDate": "2020-06-14T10:00:00", "productId": 35455}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"))
+                .andExpect(jsonPath("$.message").value(containsString("brandId")))
+                .andExpect(jsonPath("$.path").value("/prices/batch"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch body is not valid JSON")
+    void shouldReturn400WhenBatchBodyIsMalformed() throws Exception {
+        mockMvc.perform(post("/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": ["))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MALFORMED_REQUEST"));
+    }
+
+
+    @Test
+    void shouldRecordMetricsForEachLayer() throws Exception {
+        double lookups = meterRegistry.get("pricing.controller.lookup").tag("outcome", "success").timer().count();
+        double queries = meterRegistry.get("pricing.repository.query").tag("method", "findApplicable").timer().count();
+        double notFound = meterRegistry.get("pricing.lookups").tag("result", "not_found").counter().count();
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(lookups + 1, meterRegistry.get("pricing.controller.lookup").tag("outcome", "success").timer().count());
+        assertEquals(queries + 2, meterRegistry.get("pricing.repository.query").tag("method", "findApplicable").timer().count());
+        assertEquals(notFound + 1, meterRegistry.get("pricing.lookups").tag("result", "not_found").counter().count());
+        assertTrue(meterRegistry.get("pricing.errors").tag("code", "PRICE_NOT_FOUND").counter().count() >= 1);
+    }
+}
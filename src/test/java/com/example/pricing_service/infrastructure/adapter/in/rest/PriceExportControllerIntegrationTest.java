@@ -0,0 +1,65 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs each test in a rolled-back transaction so the extra catalogue rows do not leak into other tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PriceExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldExportWinningPriceOfEveryProductAsJsonLines() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+                VALUES (1, '2020-06-01T00:00:00', '2020-06-30T23:59:59', 1, 10, 0, 9.99, 'EUR'),
+                       (1, '2020-06-14T00:00:00', '2020-06-14T23:59:59', 2, 10, 1, 7.99, 'EUR'),
+                       (1, '2020-07-01T00:00:00', '2020-07-31T23:59:59', 1, 20, 0, 5.00, 'EUR'),
+                       (2, '2020-06-01T00:00:00', '2020-06-30T23:59:59', 1, 30, 0, 1.00, 'EUR')
+                """);
+
+        String body = mockMvc.perform(get("/prices/export")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(10, (int) JsonPath.read(lines[0], "$.productId"));
+        assertEquals(2, (int) JsonPath.read(lines[0], "$.priceList"));
+        assertEquals(35455, (int) JsonPath.read(lines[1], "$.productId"));
+        assertEquals(2, (int) JsonPath.read(lines[1], "$.priceList"));
+    }
+
+    @Test
+    void shouldRejectMissingBrand() throws Exception {
+        mockMvc.perform(get("/prices/export")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MISSING_PARAMETER"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs each test in a rolled-back transaction so imported rows do not leak into other tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PriceImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldImportCsvFeedAndReportMalformedRows() throws Exception {
+        String feed = """
+                productId,brandId,priceList,priority,startDate,endDate,price,currency
+                90001,2,1,0,2020-06-14T00:00:00,2020-12-31T23:59:59,19.99,EUR
+
+                90001,2,2,1,2020-06-14T15:00:00,not-a-date,9.99,EUR
+                90001,2,3,1,2020-06-14T15:00:00,2020-06-14T18:30:00,abc,EUR
+                90002,2,1,0,2020-06-14T00:00:00,2020-12-31T23:59:59,5.00,USD
+                """;
+
+        mockMvc.perform(post("/prices/import")
+                        .contentType("text/csv")
+                        .content(feed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].line").value(4))
+                .andExpect(jsonPath("$.rejections[0].reason").value("invalid date 'not-a-date'"))
+                .andExpect(jsonPath("$.rejections[1].line").value(5))
+                .andExpect(jsonPath("$.rejections[1].reason").value("invalid number"));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "90001")
+                        .param("brandId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1))
+                .andExpect(jsonPath("$.finalPrice").value(19.99));
+    }
+
+    @Test
+    void shouldImportJsonLinesFeed() throws Exception {
+        String feed = """
+                {"productId":90003,"brandId":2,"priceList":1,"priority":0,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","price":12.50,"currency":"EUR"}
+                {"productId":90003,"brandId":2
+                {"productId":90003,"brandId":2,"priceList":2}
+                """;
+
+        mockMvc.perform(post("/prices/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(feed))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].reason").value("malformed JSON"))
+                .andExpect(jsonPath("$.rejections[1].reason")
+                        .value("missing fields [priority, startDate, endDate, price, currency]"));
+
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "90003")
+                        .param("brandId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finalPrice").value(12.50));
+    }
+
+    @Test
+    void shouldRejectUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/prices/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<prices/>"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.code").value("UNSUPPORTED_MEDIA_TYPE"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceTimelineControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldReturnEffectiveSegmentsOfWindow() throws Exception {
+        MvcResult result = mockMvc.perform(get("/prices/timeline")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(35455))
+                .andExpect(jsonPath("$.brandId").value(1))
+                .andExpect(jsonPath("$.from").value("2020-06-14T00:00:00"))
+                .andExpect(jsonPath("$.segments", hasSize(6)))
+                .andExpect(jsonPath("$.segments[0].startDate").value("2020-06-14T00:00:00"))
+                .andExpect(jsonPath("$.segments[0].endDate").value("2020-06-14T14:59:59"))
+                .andExpect(jsonPath("$.segments[0].priceList").value(1))
+                .andExpect(jsonPath("$.segments[1].priceList").value(2))
+                .andExpect(jsonPath("$.segments[1].finalPrice").value(25.45))
+                .andExpect(jsonPath("$.segments[2].priceList").value(1))
+                .andExpect(jsonPath("$.segments[3].priceList").value(3))
+                .andExpect(jsonPath("$.segments[4].priceList").value(1))
+                .andExpect(jsonPath("$.segments[5].priceList").value(4))
+                .andExpect(jsonPath("$.segments[5].startDate").value("2020-06-15T16:00:00"))
+                .andExpect(jsonPath("$.segments[5].endDate").value("2020-06-16T00:00:00"))
+                .andExpect(jsonPath("$.segments[5].currency").value("EUR"));
+    }
+
+    @Test
+    void shouldReturnNoSegmentsForUnknownProduct() throws Exception {
+        MvcResult result = mockMvc.perform(get("/prices/timeline")
+                        .param("productId", "99999")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectReversedWindow() throws Exception {
+        mockMvc.perform(get("/prices/timeline")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_DATE_RANGE"));
+    }
+
+    @Test
+    void shouldRejectMissingWindowBound() throws Exception {
+        mockMvc.perform(get("/prices/timeline")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MISSING_PARAMETER"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.admin;
+
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceInMemoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "pricing.repository.type=in-memory")
+@AutoConfigureMockMvc
+class PriceSnapshotAdminControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PriceInMemoryAdapter inMemoryAdapter;
+
+    @Test
+    void shouldReportCurrentSnapshot() throws Exception {
+        long version = inMemoryAdapter.currentSnapshot().orElseThrow().version();
+
+        mockMvc.perform(get("/admin/price-snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version))
+                .andExpect(jsonPath("$.rowCount").value(4))
+                .andExpect(jsonPath("$.timelines").value(1))
+                .andExpect(jsonPath("$.buildMillis").exists())
+                .andExpect(jsonPath("$.builtAt").exists());
+    }
+
+    @Test
+    void shouldRebuildSnapshotInBackground() throws Exception {
+        long version = inMemoryAdapter.currentSnapshot().orElseThrow().version();
+
+        mockMvc.perform(post("/admin/price-snapshot/reload"))
+                .andExpect(status().isAccepted());
+        // Joins the reload just triggered, or one queued behind it
+        inMemoryAdapter.reload().join();
+
+        mockMvc.perform(get("/admin/price-snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(greaterThan((int) version)))
+                .andExpect(jsonPath("$.rowCount").value(4))
+                .andExpect(jsonPath("$.reloading").value(false));
+    }
+}
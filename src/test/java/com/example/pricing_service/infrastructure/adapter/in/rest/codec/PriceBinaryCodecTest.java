@@ -0,0 +1,76 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.codec;
+
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.example.pricing_service.infrastructure.adapter.in.rest.dto.PriceResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceBinaryCodecTest {
+
+    private final PriceResponse price = PriceResponse.builder()
+            .productId(35455L)
+            .brandId(1L)
+            .priceList(4L)
+            .startDate(LocalDateTime.of(2020, 6, 15, 16, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .finalPrice(new BigDecimal("38.95"))
+            .currency("EUR")
+            .build();
+
+    @Test
+    void shouldRoundTripPriceInFixedSize() {
+        byte[] encoded = PriceBinaryCodec.encode(price);
+
+        PriceResponse decoded = PriceBinaryCodec.decodePrice(ByteBuffer.wrap(encoded));
+
+        assertEquals(PriceBinaryCodec.PRICE_MESSAGE_BYTES, encoded.length);
+        assertEquals(price.getProductId(), decoded.getProductId());
+        assertEquals(price.getBrandId(), decoded.getBrandId());
+        assertEquals(price.getPriceList(), decoded.getPriceList());
+        assertEquals(price.getStartDate(), decoded.getStartDate());
+        assertEquals(price.getEndDate(), decoded.getEndDate());
+        assertEquals(price.getFinalPrice(), decoded.getFinalPrice());
+        assertEquals(price.getCurrency(), decoded.getCurrency());
+    }
+
+    @Test
+    void shouldKeepFractionalApplicationDatesOfBatchResults() {
+        PriceBatchResponse batch = new PriceBatchResponse(List.of(
+                new PriceBatchResponse.Result(LocalDateTime.parse("2020-06-15T16:00:00.123456789"),
+                        35455L, 1L, PriceBatchResponse.Status.FOUND, price, null),
+                new PriceBatchResponse.Result(LocalDateTime.parse("2020-06-15T16:00:00"),
+                        99999L, 1L, PriceBatchResponse.Status.NOT_FOUND, null, null)));
+
+        PriceBatchResponse decoded = PriceBinaryCodec.decodeBatch(ByteBuffer.wrap(PriceBinaryCodec.encode(batch)));
+
+        assertEquals(LocalDateTime.parse("2020-06-15T16:00:00.123456789"), decoded.results().get(0).applicationDate());
+        assertEquals(price.getStartDate(), decoded.results().get(0).price().getStartDate());
+        assertEquals(LocalDateTime.parse("2020-06-15T16:00:00"), decoded.results().get(1).applicationDate());
+        assertEquals(PriceBatchResponse.Status.NOT_FOUND, decoded.results().get(1).status());
+    }
+
+    @Test
+    void shouldRejectAmountsFinerThanHundredths() {
+        PriceResponse tooPrecise = PriceResponse.builder()
+                .productId(35455L).brandId(1L).priceList(1L)
+                .startDate(price.getStartDate()).endDate(price.getEndDate())
+                .finalPrice(new BigDecimal("38.955")).currency("EUR")
+                .build();
+
+        assertThrows(ArithmeticException.class, () -> PriceBinaryCodec.encode(tooPrecise));
+    }
+
+    @Test
+    void shouldRejectUnknownFormatVersion() {
+        byte[] encoded = PriceBinaryCodec.encode(price);
+        encoded[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> PriceBinaryCodec.decodePrice(ByteBuffer.wrap(encoded)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            1, Duration.ofMillis(10), new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void shouldRejectRequestsBeyondLimitWith503() throws Exception {
+        MockHttpServletResponse inFlightResponse = new MockHttpServletResponse();
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/prices"), inFlightResponse,
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/prices"), rejectedResponse,
+                        (nestedRequest, nestedResponse) -> fail("Request beyond the limit must not reach the controller")));
+
+        assertEquals(200, inFlightResponse.getStatus());
+        assertEquals(503, rejectedResponse.getStatus());
+        assertEquals("1", rejectedResponse.getHeader("Retry-After"));
+        assertThat(rejectedResponse.getContentAsString(), containsString("TOO_MANY_CONCURRENT_REQUESTS"));
+    }
+
+    @Test
+    void shouldReleaseSlotWhenRequestCompletes() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/prices"), first, (request, response) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", "/prices"), second, (request, response) -> { });
+
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.pricing_service.infrastructure.adapter.in.rest.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With no slot to hand out, every request the limit covers is rejected, and every other one goes through.
+ */
+@SpringBootTest(properties = {
+        "pricing.concurrency.enabled=true",
+        "pricing.concurrency.max-concurrent-requests=0",
+        "pricing.concurrency.acquire-timeout=1ms"
+})
+@AutoConfigureMockMvc
+class ConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldLimitPublicAndInternalLookups() throws Exception {
+        mockMvc.perform(get("/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/internal/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldNotLimitTheTimeline() throws Exception {
+        int status = mockMvc.perform(get("/prices/timeline")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andReturn().getResponse().getStatus();
+
+        assertNotEquals(503, status);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedPriceStoreTest {
+
+    private static final Instant EXPORTED_AT = Instant.parse("2020-06-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldResolveSameWinnerAsPriorityRules() throws IOException {
+        MappedPriceStore store = MappedPriceStore.open(write(List.of(
+                price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"),
+                price(2L, 35455L, 2L, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"),
+                price(3L, 35455L, 3L, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50"),
+                price(4L, 35455L, 4L, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95"),
+                price(5L, 35456L, 5L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "9.99"))));
+
+        assertEquals(1L, priceListAt(store, 35455L, "2020-06-14T10:00:00"));
+        assertEquals(2L, priceListAt(store, 35455L, "2020-06-14T16:00:00"));
+        assertEquals(2L, priceListAt(store, 35455L, "2020-06-14T18:30:00"));
+        assertEquals(1L, priceListAt(store, 35455L, "2020-06-14T18:30:01"));
+        assertEquals(3L, priceListAt(store, 35455L, "2020-06-15T10:00:00"));
+        assertEquals(4L, priceListAt(store, 35455L, "2020-06-16T21:00:00"));
+        assertEquals(5L, priceListAt(store, 35456L, "2020-06-16T21:00:00"));
+        assertTrue(store.find(query(35455L, "2021-01-01T00:00:00")).isEmpty());
+        assertTrue(store.find(query(99999L, "2020-06-14T10:00:00")).isEmpty());
+    }
+
+    @Test
+    void shouldNotApplyRowAfterItsEndDateWithinTheSameSecond() throws IOException {
+        MappedPriceStore store = MappedPriceStore.open(write(List.of(
+                price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"),
+                price(2L, 35455L, 2L, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"))));
+
+        assertEquals(2L, priceListAt(store, 35455L, "2020-06-14T18:29:59.5"));
+        assertEquals(1L, priceListAt(store, 35455L, "2020-06-14T18:30:00.5"));
+        assertEquals(List.of(1L), store.applicable(query(35455L, "2020-06-14T18:30:00.5")).stream()
+                .map(Price::getPriceList).toList());
+        assertEquals(1L, priceListAt(store, 35455L, "2020-06-14T14:59:59.5"));
+    }
+
+    @Test
+    void shouldRoundTripEveryField() throws IOException {
+        Price written = price(7L, 35455L, 3L, 2, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45");
+        MappedPriceStore store = MappedPriceStore.open(write(List.of(written)));
+
+        Price read = store.rows(PriceKey.of(written)).get(0);
+
+        assertEquals(1, store.rowCount());
+        assertEquals(1, store.keyCount());
+        assertEquals(EXPORTED_AT, store.exportedAt());
+        assertEquals(7L, read.getId());
+        assertEquals(1L, read.getBrandId());
+        assertEquals(35455L, read.getProductId());
+        assertEquals(3L, read.getPriceList());
+        assertEquals(2, read.getPriority());
+        assertEquals(written.getStartDate(), read.getStartDate());
+        assertEquals(written.getEndDate(), read.getEndDate());
+        assertEquals(new BigDecimal("25.45"), read.getFinalPrice());
+        assertEquals("EUR", read.getCurrency());
+        assertEquals(3L, read.getVersion());
+    }
+
+    @Test
+    void shouldFindNextOutrankingStart() throws IOException {
+        Price base = price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50");
+        MappedPriceStore store = MappedPriceStore.open(write(List.of(
+                base,
+                price(2L, 35455L, 2L, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"))));
+
+        assertEquals(LocalDateTime.parse("2020-06-14T15:00:00"),
+                store.nextOutrankingStart(base, LocalDateTime.parse("2020-06-14T10:00:00")).orElseThrow());
+        assertTrue(store.nextOutrankingStart(base, LocalDateTime.parse("2020-06-14T16:00:00")).isEmpty());
+    }
+
+    @Test
+    void shouldRejectCorruptedDirectoryOnOpen() throws IOException {
+        Path file = write(List.of(price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")));
+        corrupt(file, MappedPriceFormat.HEADER_BYTES + MappedPriceFormat.ROW_BYTES + MappedPriceFormat.ENTRY_BRAND);
+
+        InvalidPriceStoreException exception = assertThrows(InvalidPriceStoreException.class, () -> MappedPriceStore.open(file));
+        assertTrue(exception.getMessage().contains("directory checksum"));
+    }
+
+    @Test
+    void shouldLeaveCorruptedRowsToVerification() throws IOException {
+        Path file = write(List.of(price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")));
+        corrupt(file, MappedPriceFormat.HEADER_BYTES + MappedPriceFormat.ROW_AMOUNT);
+
+        MappedPriceStore store = MappedPriceStore.open(file);
+
+        InvalidPriceStoreException exception = assertThrows(InvalidPriceStoreException.class, store::verifyRows);
+        assertTrue(exception.getMessage().contains("row checksum"));
+    }
+
+    @Test
+    void shouldVerifyIntactRows() throws IOException {
+        MappedPriceStore store = MappedPriceStore.open(write(List.of(
+                price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"))));
+
+        assertDoesNotThrow(store::verifyRows);
+    }
+
+    @Test
+    void shouldRejectOtherFormatVersion() throws IOException {
+        Path file = write(List.of(price(1L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MappedPriceFormat.FORMAT_VERSION + 1), MappedPriceFormat.VERSION_OFFSET);
+        }
+
+        assertThrows(InvalidPriceStoreException.class, () -> MappedPriceStore.open(file));
+    }
+
+    @Test
+    void shouldRejectRowsOutOfKeyOrder() throws IOException {
+        try (MappedPriceStoreWriter writer = MappedPriceStoreWriter.create(directory.resolve("unordered.store"))) {
+            writer.add(price(1L, 35456L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.add(price(2L, 35455L, 1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")));
+        }
+    }
+
+    private static void corrupt(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), position);
+        }
+    }
+
+    private Path write(List<Price> prices) throws IOException {
+        Path file = directory.resolve("prices.store");
+        try (MappedPriceStoreWriter writer = MappedPriceStoreWriter.create(file)) {
+            prices.forEach(writer::add);
+            writer.commit(EXPORTED_AT);
+        }
+        return file;
+    }
+
+    private static long priceListAt(MappedPriceStore store, long productId, String applicationDate) {
+        return store.find(query(productId, applicationDate)).orElseThrow().getPriceList();
+    }
+
+    private static PriceQuery query(long productId, String applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(productId)
+                .brandId(1L)
+                .build();
+    }
+
+    private static Price price(Long id, Long productId, Long priceList, int priority, String start, String end, String amount) {
+        return Price.builder()
+                .id(id)
+                .brandId(1L)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .finalPrice(new BigDecimal(amount))
+                .currency("EUR")
+                .version(priceList)
+                .build();
+    }
+}
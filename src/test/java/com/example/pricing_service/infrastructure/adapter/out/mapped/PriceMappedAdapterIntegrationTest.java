@@ -0,0 +1,109 @@
+package com.example.pricing_service.infrastructure.adapter.out.mapped;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "pricing.repository.type=mapped")
+class PriceMappedAdapterIntegrationTest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceMappedAdapter mappedAdapter;
+
+    @Autowired
+    private MappedPriceStoreExporter exporter;
+
+    @DynamicPropertySource
+    static void storeFile(DynamicPropertyRegistry registry) {
+        try {
+            Path file = Files.createTempDirectory("price-store").resolve("prices.store");
+            registry.add("pricing.mapped-store.file", file::toString);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void shouldBeSelectedByConfiguration() {
+        assertInstanceOf(PriceMappedAdapter.class, priceRepository);
+    }
+
+    @Test
+    void shouldExportMissingStoreOnceReady() {
+        MappedPriceStore store = mappedAdapter.currentStore().orElseThrow();
+
+        assertTrue(Files.exists(mappedAdapter.file()));
+        assertEquals(4, store.rowCount());
+        assertEquals(1, store.keyCount());
+    }
+
+    @Test
+    void shouldServeLookupsFromTheStore() {
+        List<Price> prices = priceRepository.findByQuery(query("2020-06-14T16:00:00"));
+
+        assertEquals(List.of(2L, 1L), prices.stream().map(Price::getPriceList).toList());
+        assertEquals(2L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+        assertTrue(priceRepository.findApplicable(query("2019-01-01T10:00:00")).isEmpty());
+    }
+
+    @Test
+    void shouldMapNewStoreOnExport() {
+        MappedPriceStore before = mappedAdapter.currentStore().orElseThrow();
+
+        MappedPriceStore after = exporter.export();
+
+        assertNotSame(before, after);
+        assertSame(after, mappedAdapter.currentStore().orElseThrow());
+        assertEquals(2L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+    }
+
+    @Test
+    void shouldDropStoreWhoseRowsFailVerification() throws Exception {
+        exporter.export();
+        try (FileChannel channel = FileChannel.open(mappedAdapter.file(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), MappedPriceFormat.HEADER_BYTES + MappedPriceFormat.ROW_AMOUNT);
+        }
+
+        assertTrue(mappedAdapter.reopen());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mappedAdapter.currentStore().isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        try {
+            assertTrue(mappedAdapter.currentStore().isEmpty());
+            assertEquals(2L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+        } finally {
+            exporter.export();
+        }
+    }
+
+    private static PriceQuery query(String applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(35455L)
+                .brandId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.pricing_service.infrastructure.adapter.out.memory;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "pricing.repository.type=in-memory")
+class PriceInMemoryAdapterIntegrationTest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceInMemoryAdapter inMemoryAdapter;
+
+    @Test
+    void shouldBeSelectedByConfiguration() {
+        assertInstanceOf(PriceInMemoryAdapter.class, priceRepository);
+    }
+
+    @Test
+    void shouldReturnOnlyTheWinningPrice() {
+        List<Price> prices = priceRepository.findByQuery(query("2020-06-14T16:00:00"));
+
+        assertEquals(1, prices.size());
+        assertEquals(2L, prices.get(0).getPriceList());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertTrue(priceRepository.findByQuery(query("2019-01-01T10:00:00")).isEmpty());
+    }
+
+    @Test
+    void shouldPublishNextSnapshotOnReload() {
+        PriceSnapshot before = inMemoryAdapter.currentSnapshot().orElseThrow();
+
+        PriceSnapshot after = inMemoryAdapter.reload().join();
+
+        assertTrue(after.version() > before.version());
+        assertEquals(4, after.rowCount());
+        assertSame(after, inMemoryAdapter.currentSnapshot().orElseThrow());
+        assertEquals(2L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+    }
+
+    @Test
+    void shouldApplySingleRowChangesWithoutReload() {
+        long version = inMemoryAdapter.currentSnapshot().orElseThrow().version();
+        Price promotion = Price.builder()
+                .id(1000L)
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(9L)
+                .priority(5)
+                .startDate(LocalDateTime.parse("2020-06-14T15:30:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T16:30:00"))
+                .finalPrice(new BigDecimal("19.99"))
+                .currency("EUR")
+                .build();
+
+        inMemoryAdapter.upsert(promotion);
+        assertEquals(9L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+
+        inMemoryAdapter.remove(PriceKey.of(promotion), 1000L);
+        assertEquals(2L, priceRepository.findApplicable(query("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+        assertEquals(version, inMemoryAdapter.currentSnapshot().orElseThrow().version());
+    }
+
+    private static PriceQuery query(String applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(35455L)
+                .brandId(1L)
+                .build();
+    }
+}
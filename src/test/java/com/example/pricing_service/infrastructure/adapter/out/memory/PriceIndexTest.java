@@ -0,0 +1,124 @@
+package com.example.pricing_service.infrastructure.adapter.out.memory;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceTimeline;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceIndexTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.parse("2020-06-14T00:00:00");
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdownNow();
+    }
+
+    @Test
+    void shouldBuildSameTimelinesInParallelAsSerially() {
+        // Given rows of many product/brands, in no particular order, with overlapping priorities
+        List<Price> rows = shuffledRows(5_000, 3);
+
+        // When
+        PriceIndex serial = PriceIndex.build(rows);
+        PriceIndex parallel = PriceIndex.build(rows, POOL);
+
+        // Then
+        assertEquals(serial.size(), parallel.size());
+        for (Price row : rows) {
+            PriceKey key = PriceKey.of(row);
+            assertEquals(priceLists(serial.timeline(key).orElseThrow()), priceLists(parallel.timeline(key).orElseThrow()));
+        }
+    }
+
+    @Test
+    void shouldResolvePrioritiesWithinEachProductBrand() {
+        // Given
+        List<Price> rows = shuffledRows(5_000, 3);
+
+        // When
+        PriceIndex index = PriceIndex.build(rows, POOL);
+
+        // Then the nested, highest priority price list wins in the middle of the range
+        Price winner = index.timeline(new PriceKey(2L, 1_234L)).orElseThrow()
+                .priceAt(ORIGIN.plusDays(30)).orElseThrow();
+        assertEquals(3L, winner.getPriceList());
+    }
+
+    @Test
+    void shouldBuildSmallCataloguesWithoutForking() {
+        // Given
+        List<Price> rows = shuffledRows(10, 2);
+
+        // When
+        PriceIndex index = PriceIndex.build(rows, POOL);
+
+        // Then
+        assertEquals(20, index.size());
+    }
+
+    @Test
+    void shouldLeaveOutRowsThatEndBeforeTheyStart() {
+        // Given one row whose dates are swapped
+        List<Price> rows = new ArrayList<>(shuffledRows(5_000, 2));
+        Price inverted = rows.get(0);
+        rows.set(0, Price.builder()
+                .id(inverted.getId())
+                .brandId(inverted.getBrandId())
+                .productId(inverted.getProductId())
+                .priceList(inverted.getPriceList())
+                .priority(inverted.getPriority())
+                .startDate(inverted.getEndDate())
+                .endDate(inverted.getStartDate())
+                .finalPrice(inverted.getFinalPrice())
+                .currency(inverted.getCurrency())
+                .build());
+
+        // When
+        PriceIndex index = PriceIndex.build(rows, POOL);
+
+        // Then
+        assertEquals(10_000, index.size());
+        assertEquals(1, index.skippedRowCount());
+    }
+
+    private static List<Long> priceLists(PriceTimeline timeline) {
+        return timeline.winners().stream().map(Price::getPriceList).toList();
+    }
+
+    private static List<Price> shuffledRows(int products, int depth) {
+        List<Price> rows = new ArrayList<>();
+        long id = 1;
+        for (long brand = 1; brand <= 2; brand++) {
+            for (long product = 0; product < products; product++) {
+                for (int list = 0; list < depth; list++) {
+                    rows.add(Price.builder()
+                            .id(id++)
+                            .brandId(brand)
+                            .productId(product)
+                            .priceList((long) list + 1)
+                            .priority(list)
+                            .startDate(ORIGIN.plusDays(list * 7L))
+                            .endDate(ORIGIN.plusDays(100 - list * 7L))
+                            .finalPrice(BigDecimal.valueOf(1_000 + list, 2))
+                            .currency("EUR")
+                            .build());
+                }
+            }
+        }
+        Collections.shuffle(rows, new Random(42));
+        return rows;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.ApplicablePrice;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceLookupResult;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceHistoryEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static com.example.pricing_service.infrastructure.adapter.out.persistence.PriceRowFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes use brand 4, which no other test reads, and every test deletes the rows it commits. History
+ * rows stay behind, as they would in production; each test uses its own product.
+ */
+@SpringBootTest
+class PriceHistoryIntegrationTest {
+
+    private static final long BRAND_ID = 4L;
+
+    @Autowired
+    private FindApplicablePriceUseCase findApplicablePriceUseCase;
+
+    @Autowired
+    private ImportPricesUseCase importPricesUseCase;
+
+    @Autowired
+    private PriceHistoryJdbcAdapter priceHistory;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void shouldResolveAsOfLookupsAgainstTheDatesRecordedAtThatTime() throws InterruptedException {
+        LocalDateTime beforeAnyWrite = mark();
+        PriceEntity base = jpaRepository.save(entity(null, BRAND_ID, 94001L, 1L, 0, null));
+        PriceEntity promotion = jpaRepository.save(entityBuilder(BRAND_ID, 94001L, 2L, 1)
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T18:30:00"))
+                .build());
+        LocalDateTime afterPromotion = mark();
+        jpaRepository.save(entityBuilder(BRAND_ID, 94001L, 2L, 1)
+                .id(promotion.getId())
+                .version(promotion.getVersion())
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T15:29:59"))
+                .build());
+        LocalDateTime afterShortening = mark();
+        jpaRepository.deleteById(base.getId());
+        LocalDateTime afterBaseDeleted = mark();
+
+        assertThrows(PriceNotFoundException.class,
+                () -> findApplicablePriceUseCase.findApplicablePrice(query("2020-06-14T16:00:00", beforeAnyWrite)));
+
+        ApplicablePrice promoted = findApplicablePriceUseCase.findApplicablePriceWithValidity(
+                query("2020-06-14T16:00:00", afterPromotion));
+        assertEquals(2L, promoted.price().getPriceList());
+        assertEquals(LocalDateTime.parse("2020-06-14T18:30:00"), promoted.validUntil());
+
+        assertEquals(1L, findApplicablePriceUseCase.findApplicablePrice(
+                query("2020-06-14T16:00:00", afterShortening)).getPriceList());
+        ApplicablePrice shortened = findApplicablePriceUseCase.findApplicablePriceWithValidity(
+                query("2020-06-14T15:15:00", afterShortening));
+        assertEquals(2L, shortened.price().getPriceList());
+        assertEquals(LocalDateTime.parse("2020-06-14T15:29:59"), shortened.validUntil());
+
+        assertThrows(PriceNotFoundException.class,
+                () -> findApplicablePriceUseCase.findApplicablePrice(query("2020-06-14T16:00:00", afterBaseDeleted)));
+        assertEquals(2L, findApplicablePriceUseCase.findApplicablePrice(
+                query("2020-06-14T15:15:00", afterBaseDeleted)).getPriceList());
+        assertEquals(2L, findApplicablePriceUseCase.findApplicablePrice(
+                query("2020-06-14T15:15:00", null)).getPriceList());
+
+        jpaRepository.deleteById(promotion.getId());
+    }
+
+    @Test
+    void shouldRecordImportedRowsAndNotRolledBackOnes() throws InterruptedException {
+        LocalDateTime beforeImport = mark();
+        importPricesUseCase.importPrices(Stream.of(PriceFeedLine.accepted(1, price(BRAND_ID, 94002L, 1L, 0))));
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaRepository.save(entity(null, BRAND_ID, 94003L, 1L, 0, null));
+            status.setRollbackOnly();
+        });
+        LocalDateTime afterImport = mark();
+
+        List<Price> imported = priceHistory.findAsOf(new PriceKey(BRAND_ID, 94002L), afterImport);
+        assertEquals(1, imported.size());
+        assertEquals(0L, imported.get(0).getVersion());
+        assertTrue(priceHistory.findAsOf(new PriceKey(BRAND_ID, 94002L), beforeImport).isEmpty());
+        assertTrue(priceHistory.findAsOf(new PriceKey(BRAND_ID, 94003L), afterImport).isEmpty());
+
+        jpaRepository.deleteById(imported.get(0).getId());
+    }
+
+    @Test
+    void shouldResolveHistoricalAndCurrentItemsOfTheSameBatch() {
+        PriceQuery current = PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+                .productId(35455L)
+                .brandId(1L)
+                .build();
+        PriceQuery beforeSeed = PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+                .productId(35455L)
+                .brandId(1L)
+                .asOf(LocalDateTime.parse("2000-01-01T00:00:00"))
+                .build();
+        PriceQuery afterSeed = PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+                .productId(35455L)
+                .brandId(1L)
+                .asOf(LocalDateTime.now(clock))
+                .build();
+
+        List<PriceLookupResult> results = findApplicablePriceUseCase.findApplicablePrices(
+                List.of(current, beforeSeed, afterSeed));
+
+        assertEquals(2L, results.get(0).price().getPriceList());
+        assertFalse(results.get(1).isFound());
+        assertEquals(2L, results.get(2).price().getPriceList());
+    }
+
+    @Test
+    void shouldSeekTheHistoryIndexesForAsOfLookups() {
+        Timestamp asOf = Timestamp.valueOf(LocalDateTime.now(clock));
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN " + PriceHistoryJdbcAdapter.AS_OF_SQL, String.class, 35455L, 1L, asOf, asOf));
+
+        assertTrue(plan.contains(PriceHistoryEntity.LOOKUP_INDEX.toUpperCase(Locale.ROOT)), plan);
+        assertTrue(plan.contains(PriceHistoryEntity.ROW_INDEX.toUpperCase(Locale.ROOT)), plan);
+    }
+
+    /**
+     * A transaction time strictly between the writes before and after the call.
+     */
+    private LocalDateTime mark() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now(clock);
+        Thread.sleep(5);
+        return now;
+    }
+
+    private static PriceQuery query(String applicationDate, LocalDateTime asOf) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(94001L)
+                .brandId(BRAND_ID)
+                .asOf(asOf)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.PriceBoundary;
+import com.example.pricing_service.domain.model.PriceKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PriceJdbcCatalogReaderIntegrationTest {
+
+    private static final PriceKey KEY = new PriceKey(1L, 35455L);
+
+    @Autowired
+    private PriceJdbcCatalogReader catalogReader;
+
+    @Test
+    void shouldReportStartsAndTheSecondAfterEachEndInTimeOrder() {
+        List<PriceBoundary> boundaries = new ArrayList<>();
+
+        catalogReader.forEachBoundary(
+                LocalDateTime.parse("2020-06-14T00:00:00"),
+                LocalDateTime.parse("2020-06-15T11:00:01"),
+                boundaries::add);
+
+        assertEquals(List.of(
+                new PriceBoundary(KEY, LocalDateTime.parse("2020-06-14T15:00:00")),
+                new PriceBoundary(KEY, LocalDateTime.parse("2020-06-14T18:30:01")),
+                new PriceBoundary(KEY, LocalDateTime.parse("2020-06-15T00:00:00")),
+                new PriceBoundary(KEY, LocalDateTime.parse("2020-06-15T11:00:01"))
+        ), boundaries);
+    }
+
+    @Test
+    void shouldReportBoundaryOnceWhenSeveralPricesShareIt() {
+        List<PriceBoundary> boundaries = new ArrayList<>();
+
+        // Price lists 1 and 4 both end at 2020-12-31T23:59:59
+        catalogReader.forEachBoundary(
+                LocalDateTime.parse("2020-12-31T00:00:00"),
+                LocalDateTime.parse("2021-01-01T00:00:00"),
+                boundaries::add);
+
+        assertEquals(List.of(new PriceBoundary(KEY, LocalDateTime.parse("2021-01-01T00:00:00"))), boundaries);
+    }
+}
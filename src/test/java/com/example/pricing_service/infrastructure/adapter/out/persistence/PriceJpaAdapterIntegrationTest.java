@@ -0,0 +1,59 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PriceJpaAdapterIntegrationTest {
+
+    @Autowired
+    private PriceJpaAdapter adapter;
+
+    @Test
+    @DisplayName("Should fetch only the highest-priority row when prices overlap")
+    void shouldReturnWinningPriceWhenPricesOverlap() {
+        Optional<Price> price = adapter.findApplicable(query("2020-06-14T16:00:00", 35455L));
+
+        assertTrue(price.isPresent());
+        assertEquals(2L, price.get().getPriceList());
+        assertEquals(new BigDecimal("25.45"), price.get().getFinalPrice());
+        assertEquals("EUR", price.get().getCurrency());
+    }
+
+    @Test
+    void shouldAgreeWithPriorityOrderOverAllCandidates() {
+        for (String date : new String[]{"2020-06-14T10:00:00", "2020-06-14T21:00:00",
+                "2020-06-15T10:00:00", "2020-06-16T21:00:00"}) {
+            PriceQuery query = query(date, 35455L);
+            Long expected = adapter.findByQuery(query).stream()
+                    .max(Price.PRIORITY_ORDER)
+                    .map(Price::getPriceList)
+                    .orElseThrow();
+
+            assertEquals(expected, adapter.findApplicable(query).map(Price::getPriceList).orElseThrow(), date);
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertTrue(adapter.findApplicable(query("2020-06-14T10:00:00", 99999L)).isEmpty());
+    }
+
+    private static PriceQuery query(String applicationDate, Long productId) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(productId)
+                .brandId(1L)
+                .build();
+    }
+}
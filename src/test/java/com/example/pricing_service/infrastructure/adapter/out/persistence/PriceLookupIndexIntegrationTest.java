@@ -0,0 +1,93 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class PriceLookupIndexIntegrationTest {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int ROWS_PER_PRODUCT = 5;
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @BeforeEach
+    void loadSyntheticDataset() {
+        List<Object[]> rows = new ArrayList<>(PRODUCTS * ROWS_PER_PRODUCT);
+        for (long product = 1; product <= PRODUCTS; product++) {
+            for (int list = 0; list < ROWS_PER_PRODUCT; list++) {
+                LocalDateTime start = ORIGIN.plusDays(list * 30L);
+                rows.add(new Object[]{
+                        2L,
+                        Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusDays(45)),
+                        (long) list + 1,
+                        100_000L + product,
+                        list,
+                        10.0 + list,
+                        "EUR"
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    @Test
+    @DisplayName("Should seek the lookup index instead of scanning the prices table")
+    void shouldUseLookupIndexForApplicablePriceQuery() {
+        String plan = explain(
+                "SELECT * FROM prices WHERE product_id = 105000 AND brand_id = 2 " +
+                        "AND start_date <= TIMESTAMP '2021-02-10 00:00:00' " +
+                        "AND end_date >= TIMESTAMP '2021-02-10 00:00:00'");
+
+        assertTrue(plan.contains(PriceEntity.LOOKUP_INDEX.toUpperCase(Locale.ROOT)), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Should use the lookup index for the batch IN query")
+    void shouldUseLookupIndexForBatchQuery() {
+        String plan = explain(
+                "SELECT * FROM prices WHERE brand_id = 2 AND product_id IN (100001, 100002, 100003) " +
+                        "AND start_date <= TIMESTAMP '2021-02-10 00:00:00' " +
+                        "AND end_date >= TIMESTAMP '2021-01-10 00:00:00'");
+
+        assertTrue(plan.contains(PriceEntity.LOOKUP_INDEX.toUpperCase(Locale.ROOT)), plan);
+    }
+
+    @Test
+    void shouldStillResolveApplicablePricesOnLargeDataset() {
+        List<PriceEntity> prices = jpaRepository.findApplicablePrices(
+                105_000L, 2L, LocalDateTime.of(2021, 2, 10, 0, 0));
+
+        assertEquals(2, prices.size());
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.pricing_service.infrastructure.adapter.out.persistence;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Rows written by the integration tests that share the H2 database: 19.99 EUR from 2020-06-14 to the
+ * end of 2020 unless a test sets other dates. Each test passes the brand it owns.
+ */
+public final class PriceRowFixtures {
+
+    public static final LocalDateTime START_DATE = LocalDateTime.parse("2020-06-14T00:00:00");
+    public static final LocalDateTime END_DATE = LocalDateTime.parse("2020-12-31T23:59:59");
+
+    private static final BigDecimal AMOUNT = new BigDecimal("19.99");
+
+    private PriceRowFixtures() {
+    }
+
+    public static Price price(long brandId, long productId, long priceList, int priority) {
+        return Price.builder()
+                .brandId(brandId)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .finalPrice(AMOUNT)
+                .currency("EUR")
+                .build();
+    }
+
+    public static PriceEntity entity(Long id, long brandId, long productId, long priceList, int priority, Long version) {
+        return entityBuilder(brandId, productId, priceList, priority)
+                .id(id)
+                .version(version)
+                .build();
+    }
+
+    public static PriceEntity.PriceEntityBuilder entityBuilder(long brandId, long productId, long priceList, int priority) {
+        return PriceEntity.builder()
+                .brandId(brandId)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .price(AMOUNT)
+                .currency("EUR");
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.pricing_service.infrastructure.adapter.out.singleflight;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SingleFlightPriceRepositoryTest {
+
+    private static final int FOLLOWERS = 8;
+
+    private final PriceRepository delegate = mock(PriceRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightPriceRepository repository = new SingleFlightPriceRepository(delegate, meterRegistry);
+    private final ExecutorService callers = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    private final PriceQuery query = PriceQuery.builder()
+            .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0))
+            .productId(35455L)
+            .brandId(1L)
+            .build();
+
+    private final PriceKey key = query.key();
+
+    private final Price price = Price.builder()
+            .id(1L).brandId(1L).productId(35455L).priceList(1L).priority(0)
+            .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .finalPrice(new BigDecimal("35.50")).currency("EUR")
+            .build();
+
+    private final Price promotion = Price.builder()
+            .id(2L).brandId(1L).productId(35455L).priceList(2L).priority(1)
+            .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+            .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+            .finalPrice(new BigDecimal("25.45")).currency("EUR")
+            .build();
+
+    @AfterEach
+    void shutDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentQueriesForTheSameProduct() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByKey(key)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(price, promotion);
+        });
+
+        // When
+        List<Future<Optional<Price>>> results = submitWhileLeaderIsInFlight(release, i -> query);
+
+        // Then
+        for (Future<Optional<Price>> result : results) {
+            assertSame(price, result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findByKey(key);
+        verify(delegate, never()).findApplicable(any());
+        assertEquals(FOLLOWERS / (FOLLOWERS + 1.0),
+                meterRegistry.get("pricing.singleflight.collapse.ratio").tag("method", "findByKey").gauge().value(),
+                1e-9);
+    }
+
+    @Test
+    void shouldResolveEachCallersOwnDateAgainstTheSharedRows() throws Exception {
+        // Given callers a minute apart, half of them while the promotion applies
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByKey(key)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(price, promotion);
+        });
+
+        // When
+        List<Future<Optional<Price>>> results = submitWhileLeaderIsInFlight(release, i -> PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 14, 56).plusMinutes(i))
+                .productId(35455L)
+                .brandId(1L)
+                .build());
+
+        // Then
+        for (int i = 0; i < results.size(); i++) {
+            Price expected = i < 4 ? price : promotion;
+            assertSame(expected, results.get(i).get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findByKey(key);
+    }
+
+    @Test
+    void shouldPropagateFailureToEveryWaiter() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        when(delegate.findByKey(key)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        // When
+        List<Future<Optional<Price>>> results = submitWhileLeaderIsInFlight(release, i -> query);
+
+        // Then
+        for (Future<Optional<Price>> result : results) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+        verify(delegate, times(1)).findByKey(key);
+    }
+
+    @Test
+    void shouldCallDelegateAgainOnceTheFlightHasLanded() {
+        // Given
+        when(delegate.findByKey(key)).thenReturn(List.of(price));
+
+        // When
+        repository.findApplicable(query);
+        repository.findApplicable(query);
+
+        // Then
+        verify(delegate, times(2)).findByKey(key);
+        assertEquals(2.0, meterRegistry.get("pricing.singleflight.calls")
+                .tag("method", "findByKey").tag("role", "leader").counter().count());
+    }
+
+    @Test
+    void shouldFindNextOutrankingStartInTheRowsOfAFlightInTheAir() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByKey(key)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(price, promotion);
+        });
+        Future<Optional<Price>> leader = callers.submit(() -> repository.findApplicable(query));
+        awaitCount("leader", 1);
+
+        // When
+        Future<Optional<LocalDateTime>> next = callers.submit(
+                () -> repository.findNextOutrankingStart(price, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        awaitCount("follower", 1);
+        release.countDown();
+
+        // Then
+        assertEquals(Optional.of(promotion.getStartDate()), next.get(5, TimeUnit.SECONDS));
+        assertSame(price, leader.get(5, TimeUnit.SECONDS).orElseThrow());
+        verify(delegate, times(1)).findByKey(key);
+        verify(delegate, never()).findNextOutrankingStart(any(), any());
+    }
+
+    @Test
+    void shouldAskDelegateForNextOutrankingStartWithoutLoadingRowsAgain() {
+        // Given
+        when(delegate.findByKey(key)).thenReturn(List.of(price, promotion));
+        when(delegate.findNextOutrankingStart(price, query.applicationDate()))
+                .thenReturn(Optional.of(promotion.getStartDate()));
+
+        // When
+        Price winner = repository.findApplicable(query).orElseThrow();
+        Optional<LocalDateTime> next = repository.findNextOutrankingStart(winner, query.applicationDate());
+
+        // Then
+        assertEquals(Optional.of(promotion.getStartDate()), next);
+        verify(delegate, times(1)).findByKey(key);
+    }
+
+    /**
+     * Starts the leader, waits until it is inside the delegate, then submits the followers and waits
+     * until they have all joined its flight before letting it finish. Caller {@code i} runs query {@code i}.
+     */
+    private List<Future<Optional<Price>>> submitWhileLeaderIsInFlight(CountDownLatch release,
+                                                                      IntFunction<PriceQuery> queries)
+            throws InterruptedException {
+        List<Future<Optional<Price>>> results = new ArrayList<>();
+        results.add(callers.submit(() -> repository.findApplicable(queries.apply(0))));
+        awaitCount("leader", 1);
+        for (int i = 1; i <= FOLLOWERS; i++) {
+            PriceQuery followerQuery = queries.apply(i);
+            results.add(callers.submit(() -> repository.findApplicable(followerQuery)));
+        }
+        awaitCount("follower", FOLLOWERS);
+        release.countDown();
+        return results;
+    }
+
+    private void awaitCount(String role, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("pricing.singleflight.calls")
+                .tag("method", "findByKey").tag("role", role).counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + expected + " " + role + " calls");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.PriceQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "pricing.cache.enabled=true")
+class CachingFindApplicablePriceUseCaseIntegrationTest {
+
+    @Autowired
+    private FindApplicablePriceUseCase useCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldServeLookupsThroughCacheAndRecordMetrics() {
+        assertInstanceOf(CachingFindApplicablePriceUseCase.class, useCase);
+
+        assertEquals(1L, useCase.findApplicablePrice(query("2020-06-14T10:00:00", 35455L)).getPriceList());
+        assertEquals(2L, useCase.findApplicablePrice(query("2020-06-14T16:00:00", 35455L)).getPriceList());
+        assertEquals(3L, useCase.findApplicablePrice(query("2020-06-15T10:00:00", 35455L)).getPriceList());
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", "prices").tag("result", "hit")
+                .functionCounter().count();
+        assertTrue(hits >= 2);
+    }
+
+    @Test
+    void shouldThrowNotFoundForUnknownProduct() {
+        assertThrows(PriceNotFoundException.class,
+                () -> useCase.findApplicablePrice(query("2020-06-14T10:00:00", 99999L)));
+    }
+
+    private static PriceQuery query(String applicationDate, Long productId) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse(applicationDate))
+                .productId(productId)
+                .brandId(1L)
+                .build();
+    }
+}
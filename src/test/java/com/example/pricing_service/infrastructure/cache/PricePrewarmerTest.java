@@ -0,0 +1,117 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.domain.model.PriceBoundary;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.domain.port.out.PriceCatalogReader;
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import com.example.pricing_service.infrastructure.config.PricingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+
+import static com.example.pricing_service.infrastructure.cache.PriceTimelineFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PricePrewarmerTest {
+
+    private static final PriceKey COLD_KEY = new PriceKey(1L, 35456L);
+    private static final LocalDateTime NOW = LocalDateTime.parse("2020-06-14T14:55:00");
+    private static final LocalDateTime PROMOTION_START = LocalDateTime.parse("2020-06-14T15:00:00");
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private PriceCatalogReader catalogReader;
+
+    @Mock
+    private TaskScheduler scheduler;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PriceTimelineCache cache;
+    private PricePrewarmer prewarmer;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        cache = new PriceTimelineCache(priceRepository, 100, Duration.ofDays(1));
+        PricingProperties.Prewarm settings = new PricingProperties.Prewarm(
+                true, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(5));
+        prewarmer = new PricePrewarmer(cache, catalogReader, scheduler, clock, settings, meterRegistry);
+    }
+
+    @Test
+    void shouldScheduleWarmUpLeadAheadOfEachBoundary() {
+        // Given
+        boundariesInWindow(new PriceBoundary(KEY, PROMOTION_START));
+
+        // When
+        int scheduled = prewarmer.scan();
+
+        // Then
+        assertEquals(1, scheduled);
+        verify(catalogReader).forEachBoundary(eq(NOW.plusSeconds(5)), eq(NOW.plusMinutes(10)), any());
+        verify(scheduler).schedule(any(Runnable.class), eq(Instant.parse("2020-06-14T14:59:55Z")));
+    }
+
+    @Test
+    void shouldNotScheduleSameBoundaryTwice() {
+        // Given
+        boundariesInWindow(new PriceBoundary(KEY, PROMOTION_START));
+
+        // When
+        prewarmer.scan();
+        int scheduledAgain = prewarmer.scan();
+
+        // Then
+        assertEquals(0, scheduledAgain);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void shouldLoadOnlyTimelinesNotYetCached() {
+        // Given
+        boundariesInWindow(new PriceBoundary(KEY, PROMOTION_START), new PriceBoundary(COLD_KEY, PROMOTION_START));
+        when(priceRepository.findByKey(any())).thenReturn(baseAndPromotion());
+        cache.get(KEY);
+        ArgumentCaptor<Runnable> warmUp = ArgumentCaptor.forClass(Runnable.class);
+        prewarmer.scan();
+        verify(scheduler).schedule(warmUp.capture(), any(Instant.class));
+
+        // When
+        warmUp.getValue().run();
+
+        // Then
+        assertEquals(2L, cache.get(COLD_KEY).priceAt(PROMOTION_START).orElseThrow().getPriceList());
+        verify(priceRepository, times(1)).findByKey(KEY);
+        verify(priceRepository, times(1)).findByKey(COLD_KEY);
+        assertEquals(1.0, meterRegistry.get("pricing.prewarm.keys").summary().totalAmount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void boundariesInWindow(PriceBoundary... boundaries) {
+        doAnswer(invocation -> {
+            Consumer<PriceBoundary> consumer = invocation.getArgument(2);
+            for (PriceBoundary boundary : boundaries) {
+                consumer.accept(boundary);
+            }
+            return null;
+        }).when(catalogReader).forEachBoundary(any(), any(), any(Consumer.class));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.example.pricing_service.infrastructure.cache.PriceTimelineFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineCacheTest {
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Test
+    void shouldLoadTimelineOnceForDifferentApplicationDates() {
+        when(priceRepository.findByKey(KEY)).thenReturn(baseAndPromotion());
+        PriceTimelineCache cache = cache(Duration.ofDays(1));
+
+        assertEquals(1L, cache.get(KEY).priceAt(LocalDateTime.parse("2020-06-14T10:00:00")).orElseThrow().getPriceList());
+        assertEquals(2L, cache.get(KEY).priceAt(LocalDateTime.parse("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+
+        verify(priceRepository, times(1)).findByKey(KEY);
+    }
+
+    @Test
+    void shouldKeepTimelineAcrossPriceBoundaries() {
+        when(priceRepository.findByKey(KEY)).thenReturn(baseAndPromotion());
+        PriceTimelineCache cache = cache(Duration.ofDays(1));
+
+        // Loaded while price list 1 applies; price list 2 starts at 15:00 and ends at 18:30
+        cache.get(KEY);
+
+        assertTrue(cache.expiresAfter(KEY).compareTo(Duration.ofHours(23)) > 0);
+        assertEquals(2L, cache.get(KEY).priceAt(LocalDateTime.parse("2020-06-14T16:00:00")).orElseThrow().getPriceList());
+        assertEquals(1L, cache.get(KEY).priceAt(LocalDateTime.parse("2020-06-14T19:00:00")).orElseThrow().getPriceList());
+        verify(priceRepository, times(1)).findByKey(KEY);
+    }
+
+    @Test
+    void shouldExpireAfterWrite() {
+        when(priceRepository.findByKey(KEY)).thenReturn(baseAndPromotion());
+        PriceTimelineCache cache = cache(Duration.ofMinutes(10));
+
+        cache.get(KEY);
+
+        Duration expiresAfter = cache.expiresAfter(KEY);
+        assertTrue(expiresAfter.compareTo(Duration.ofMinutes(10)) <= 0);
+        assertTrue(expiresAfter.compareTo(Duration.ofMinutes(9)) > 0);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        when(priceRepository.findByKey(KEY)).thenReturn(baseAndPromotion());
+        PriceTimelineCache cache = cache(Duration.ofDays(1));
+
+        cache.get(KEY);
+        cache.invalidate(KEY);
+        cache.get(KEY);
+
+        verify(priceRepository, times(2)).findByKey(KEY);
+    }
+
+    private PriceTimelineCache cache(Duration expireAfterWrite) {
+        return new PriceTimelineCache(priceRepository, 100, expireAfterWrite);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.pricing_service.infrastructure.cache;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Rows of the cache tests: a year-long price list 1 and price list 2 overriding it on 2020-06-14 from
+ * 15:00 to 18:30, as in the seed data.
+ */
+final class PriceTimelineFixtures {
+
+    static final PriceKey KEY = new PriceKey(1L, 35455L);
+
+    private PriceTimelineFixtures() {
+    }
+
+    static List<Price> baseAndPromotion() {
+        return List.of(
+                price(1L, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+                price(2L, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00")
+        );
+    }
+
+    private static Price price(Long priceList, int priority, String start, String end) {
+        return Price.builder()
+                .id(priceList)
+                .brandId(KEY.brandId())
+                .productId(KEY.productId())
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .finalPrice(BigDecimal.TEN)
+                .currency("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.Price;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class HttpPriceChangeBrokerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PriceChangeEvent> received = new ArrayList<>();
+    private MockRestServiceServer server;
+    private HttpPriceChangeBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        LocalPriceChangeBroker local = new LocalPriceChangeBroker(Clock.systemUTC(), meterRegistry);
+        broker = new HttpPriceChangeBroker(local, builder.build(),
+                List.of("http://node-b", "http://node-c"), meterRegistry);
+        broker.subscribe(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.destroy();
+    }
+
+    @Test
+    void shouldDeliverLocallyAndPostNoticesToEveryPeer() {
+        // Given
+        PriceChangeEvent event = PriceChangeEvent.of(PriceChangeEvent.Kind.UPDATED, price(), Instant.now());
+        server.expect(requestTo("http://node-b/internal/price-changes"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].key.productId").value(35455))
+                .andExpect(jsonPath("$[0].price").doesNotExist())
+                .andRespond(withSuccess());
+        server.expect(requestTo("http://node-c/internal/price-changes"))
+                .andRespond(withSuccess());
+
+        // When
+        broker.publish(List.of(event));
+
+        // Then
+        assertEquals(List.of(event), received);
+        server.verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldCountPeersThatCannotBeReached() {
+        // Given
+        server.expect(requestTo("http://node-b/internal/price-changes"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo("http://node-c/internal/price-changes"))
+                .andRespond(withSuccess());
+
+        // When
+        broker.publish(List.of(PriceChangeEvent.of(PriceChangeEvent.Kind.CREATED, price(), Instant.now())));
+
+        // Then
+        server.verify(Duration.ofSeconds(5));
+        assertEquals(1.0, meterRegistry.get("pricing.changes.send.failures").tag("peer", "http://node-b").counter().count());
+        assertEquals(1, received.size());
+    }
+
+    private static Price price() {
+        return Price.builder()
+                .id(2L)
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T18:30:00"))
+                .finalPrice(new BigDecimal("25.45"))
+                .currency("EUR")
+                .version(1L)
+                .build();
+    }
+}
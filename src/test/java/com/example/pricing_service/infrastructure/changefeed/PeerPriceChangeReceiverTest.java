@@ -0,0 +1,100 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceKey;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeerPriceChangeReceiverTest {
+
+    private static final PriceKey KEY = new PriceKey(1L, 35455L);
+    private static final PriceKey OTHER_KEY = new PriceKey(1L, 35456L);
+
+    @Mock
+    private PriceJpaAdapter jpaAdapter;
+
+    private final List<PriceChangeEvent> delivered = new ArrayList<>();
+    private PeerPriceChangeReceiver receiver;
+
+    @BeforeEach
+    void setUp() {
+        LocalPriceChangeBroker local = new LocalPriceChangeBroker(Clock.systemUTC(), new SimpleMeterRegistry());
+        local.subscribe(delivered::add);
+        receiver = new PeerPriceChangeReceiver(local, jpaAdapter);
+    }
+
+    @Test
+    void shouldDeliverRowsAsStoredInTheDatabase() {
+        // Given
+        when(jpaAdapter.findAllById(any())).thenReturn(List.of(price(2L, KEY)));
+
+        // When
+        receiver.receive(List.of(new PriceChangeNotice(2L, KEY, null, Instant.now())));
+
+        // Then
+        assertEquals(1, delivered.size());
+        assertEquals(PriceChangeEvent.Kind.UPDATED, delivered.get(0).kind());
+        assertEquals(new BigDecimal("25.45"), delivered.get(0).price());
+    }
+
+    @Test
+    void shouldRemoveRowsThatNoLongerExist() {
+        // Given
+        when(jpaAdapter.findAllById(any())).thenReturn(List.of());
+
+        // When
+        receiver.receive(List.of(new PriceChangeNotice(2L, KEY, OTHER_KEY, Instant.now())));
+
+        // Then
+        assertEquals(List.of(KEY, OTHER_KEY), delivered.stream().map(PriceChangeEvent::key).toList());
+        assertTrue(delivered.stream().allMatch(event -> event.kind() == PriceChangeEvent.Kind.DELETED));
+    }
+
+    @Test
+    void shouldNotServeRowsUnderAKeyTheDatabaseDoesNotHoldThemIn() {
+        // Given a notice that places the row under another product than the database does
+        when(jpaAdapter.findAllById(any())).thenReturn(List.of(price(2L, KEY)));
+
+        // When
+        receiver.receive(List.of(new PriceChangeNotice(2L, OTHER_KEY, null, Instant.now())));
+
+        // Then
+        assertEquals(2, delivered.size());
+        assertEquals(PriceChangeEvent.Kind.DELETED, delivered.get(0).kind());
+        assertEquals(OTHER_KEY, delivered.get(0).key());
+        assertEquals(PriceChangeEvent.Kind.UPDATED, delivered.get(1).kind());
+        assertEquals(KEY, delivered.get(1).key());
+    }
+
+    private static Price price(long id, PriceKey key) {
+        return Price.builder()
+                .id(id)
+                .brandId(key.brandId())
+                .productId(key.productId())
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T18:30:00"))
+                .finalPrice(new BigDecimal("25.45"))
+                .currency("EUR")
+                .version(1L)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.pricing_service.infrastructure.changefeed;
+
+import com.example.pricing_service.application.usecase.FindApplicablePriceUseCase;
+import com.example.pricing_service.application.usecase.ImportPricesUseCase;
+import com.example.pricing_service.domain.exception.PriceNotFoundException;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceFeedLine;
+import com.example.pricing_service.domain.model.PriceQuery;
+import com.example.pricing_service.infrastructure.adapter.out.memory.PriceInMemoryAdapter;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.example.pricing_service.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static com.example.pricing_service.infrastructure.adapter.out.persistence.PriceRowFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes use brand 3, which no other test reads, and every test deletes the rows it commits.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=in-memory",
+        "pricing.cache.enabled=true",
+        "pricing.change-feed.enabled=true"
+})
+class PriceChangeFeedIntegrationTest {
+
+    private static final long BRAND_ID = 3L;
+
+    @Autowired
+    private ImportPricesUseCase importPricesUseCase;
+
+    @Autowired
+    private FindApplicablePriceUseCase findApplicablePriceUseCase;
+
+    @Autowired
+    private PriceInMemoryAdapter inMemoryAdapter;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldPatchInMemoryIndexWithImportedRows() {
+        long snapshotVersion = inMemoryAdapter.currentSnapshot().orElseThrow().version();
+
+        importPricesUseCase.importPrices(Stream.of(PriceFeedLine.accepted(1, price(BRAND_ID, 91001L, 1L, 0))));
+
+        Price imported = inMemoryAdapter.findApplicable(query(91001L)).orElseThrow();
+        assertNotNull(imported.getId());
+        assertEquals(1L, imported.getPriceList());
+        assertEquals(snapshotVersion, inMemoryAdapter.currentSnapshot().orElseThrow().version());
+
+        jpaRepository.deleteById(imported.getId());
+
+        assertTrue(inMemoryAdapter.findApplicable(query(91001L)).isEmpty());
+    }
+
+    @Test
+    void shouldDropCachedTimelineWhenRowChanges() {
+        PriceEntity base = jpaRepository.save(entity(null, BRAND_ID, 91002L, 1L, 0, null));
+        assertEquals(1L, findApplicablePriceUseCase.findApplicablePrice(query(91002L)).getPriceList());
+
+        PriceEntity promotion = jpaRepository.save(entity(null, BRAND_ID, 91002L, 2L, 1, null));
+        assertEquals(2L, findApplicablePriceUseCase.findApplicablePrice(query(91002L)).getPriceList());
+
+        jpaRepository.save(entity(promotion.getId(), BRAND_ID, 91002L, 3L, 1, promotion.getVersion()));
+        assertEquals(3L, findApplicablePriceUseCase.findApplicablePrice(query(91002L)).getPriceList());
+
+        jpaRepository.deleteById(promotion.getId());
+        jpaRepository.deleteById(base.getId());
+        assertThrows(PriceNotFoundException.class, () -> findApplicablePriceUseCase.findApplicablePrice(query(91002L)));
+    }
+
+    @Test
+    void shouldDropMovedRowFromTheProductItLeft() {
+        PriceEntity row = jpaRepository.save(entity(null, BRAND_ID, 91004L, 1L, 0, null));
+        assertEquals(1L, findApplicablePriceUseCase.findApplicablePrice(query(91004L)).getPriceList());
+
+        jpaRepository.save(entity(row.getId(), BRAND_ID, 91005L, 1L, 0, row.getVersion()));
+
+        assertTrue(inMemoryAdapter.findApplicable(query(91004L)).isEmpty());
+        assertThrows(PriceNotFoundException.class, () -> findApplicablePriceUseCase.findApplicablePrice(query(91004L)));
+        assertEquals(row.getId(), findApplicablePriceUseCase.findApplicablePrice(query(91005L)).getId());
+
+        jpaRepository.deleteById(row.getId());
+        assertTrue(inMemoryAdapter.findApplicable(query(91005L)).isEmpty());
+    }
+
+    @Test
+    void shouldNotPublishRolledBackWrites() {
+        double published = publishedCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaRepository.save(entity(null, BRAND_ID, 91003L, 1L, 0, null));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(published, publishedCount());
+        assertTrue(inMemoryAdapter.findApplicable(query(91003L)).isEmpty());
+    }
+
+    private double publishedCount() {
+        return meterRegistry.find("pricing.changes.published").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static PriceQuery query(long productId) {
+        return PriceQuery.builder()
+                .applicationDate(LocalDateTime.parse("2020-06-14T16:00:00"))
+                .productId(productId)
+                .brandId(BRAND_ID)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int BRANDS = 10_000;
+
+    @Test
+    void shouldAssignSameOwnerRegardlessOfNodeOrder() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("node-c", "node-a", "node-b"), 128);
+
+        LongStream.range(0, BRANDS).forEach(brandId ->
+                assertEquals(ring.ownerOf(brandId), reordered.ownerOf(brandId)));
+    }
+
+    @Test
+    void shouldSpreadBrandsEvenlyAcrossNodes() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), 128);
+
+        Map<String, Long> brandsPerNode = LongStream.range(0, BRANDS).boxed()
+                .collect(Collectors.groupingBy(ring::ownerOf, Collectors.counting()));
+
+        assertEquals(3, brandsPerNode.size());
+        brandsPerNode.values().forEach(count ->
+                assertTrue(count > BRANDS / 4 && count < BRANDS / 2, "Unbalanced ring: " + brandsPerNode));
+    }
+
+    @Test
+    void shouldOnlyMoveBrandsToTheAddedNode() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+
+        Map<Boolean, Long> moved = LongStream.range(0, BRANDS).boxed()
+                .filter(brandId -> !before.ownerOf(brandId).equals(after.ownerOf(brandId)))
+                .map(after::ownerOf)
+                .collect(Collectors.groupingBy("node-d"::equals, Collectors.counting()));
+
+        assertNull(moved.get(false), "Brands moved between nodes that were already on the ring");
+        long movedToNewNode = moved.getOrDefault(true, 0L);
+        assertTrue(movedToNewNode > BRANDS / 6 && movedToNewNode < BRANDS / 3,
+                "Expected about a quarter of the brands to move, got " + movedToNewNode);
+    }
+
+    @Test
+    void shouldRejectEmptyRing() {
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(List.of(), 128));
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.pricing_service.infrastructure.sharding;
+
+import com.example.pricing_service.PricingServiceApplication;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.port.out.PriceWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs three nodes on localhost, each with its own in-memory database, and checks that lookups for
+ * a brand reach the node owning it, before and after a node joins the ring.
+ */
+class ShardingIntegrationTest {
+
+    private static final long PRODUCT_ID = 70001L;
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2021, 3, 1, 12, 0);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static ConfigurableApplicationContext nodeC;
+    private static final RestClient http = RestClient.create();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("node-a");
+        nodeB = start("node-b");
+        nodeC = start("node-c");
+        updateShardMaps(Map.of("node-a", urlOf(nodeA), "node-b", urlOf(nodeB)), nodeA, nodeB);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        for (ConfigurableApplicationContext node : List.of(nodeA, nodeB, nodeC)) {
+            if (node != null) {
+                node.close();
+            }
+        }
+    }
+
+    @Test
+    void shouldForwardLookupsToTheOwningNode() {
+        long brandOfB = brandOwnedBy("node-b", List.of("node-a", "node-b"));
+        insertPrice(nodeB, brandOfB, "12.50");
+
+        JsonNode price = getPrice(nodeA, brandOfB);
+
+        assertEquals(12.50, price.get("finalPrice").asDouble());
+        assertEquals(brandOfB, price.get("brandId").asLong());
+    }
+
+    @Test
+    void shouldSplitBatchesByOwner() {
+        long brandOfA = brandOwnedBy("node-a", List.of("node-a", "node-b"));
+        long brandOfB = brandOwnedBy("node-b", List.of("node-a", "node-b"), brandOfA + 1000);
+        insertPrice(nodeA, brandOfA, "1.00");
+        insertPrice(nodeB, brandOfB, "2.00");
+
+        JsonNode results = http.post()
+                .uri(urlOf(nodeB) + "/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("items", List.of(
+                        item(brandOfA), item(brandOfB), item(brandOfA + 2000))))
+                .retrieve()
+                .body(JsonNode.class)
+                .get("results");
+
+        assertEquals(1.00, results.get(0).get("price").get("finalPrice").asDouble());
+        assertEquals(2.00, results.get(1).get("price").get("finalPrice").asDouble());
+        assertEquals("NOT_FOUND", results.get(2).get("status").asText());
+    }
+
+    @Test
+    void shouldRouteMovedBrandsToTheAddedNode() {
+        long movedBrand = LongStream.range(3000, 100_000)
+                .filter(brandId -> ConsistentHashRing.of(List.of("node-a", "node-b", "node-c"), 128)
+                        .ownerOf(brandId).equals("node-c"))
+                .findFirst()
+                .orElseThrow();
+        String previousOwner = ConsistentHashRing.of(List.of("node-a", "node-b"), 128).ownerOf(movedBrand);
+        insertPrice("node-a".equals(previousOwner) ? nodeA : nodeB, movedBrand, "10.00");
+        insertPrice(nodeC, movedBrand, "20.00");
+        assertEquals(10.00, getPrice(nodeA, movedBrand).get("finalPrice").asDouble());
+
+        Map<String, String> nodes = new LinkedHashMap<>();
+        nodes.put("node-a", urlOf(nodeA));
+        nodes.put("node-b", urlOf(nodeB));
+        nodes.put("node-c", urlOf(nodeC));
+        updateShardMaps(nodes, nodeA, nodeB, nodeC);
+
+        assertEquals(20.00, getPrice(nodeA, movedBrand).get("finalPrice").asDouble());
+        assertEquals(20.00, getPrice(nodeB, movedBrand).get("finalPrice").asDouble());
+
+        // Back to two nodes so the other tests keep their routing
+        updateShardMaps(Map.of("node-a", urlOf(nodeA), "node-b", urlOf(nodeB)), nodeA, nodeB, nodeC);
+    }
+
+    @Test
+    void shouldReturn404WhenOwnerHasNoPrice() {
+        long brandOfB = brandOwnedBy("node-b", List.of("node-a", "node-b"), 50_000);
+
+        HttpClientErrorException.NotFound notFound = assertThrows(HttpClientErrorException.NotFound.class,
+                () -> getPrice(nodeA, brandOfB));
+        assertTrue(notFound.getResponseBodyAsString().contains("PRICE_NOT_FOUND"));
+    }
+
+    private static ConfigurableApplicationContext start(String node) {
+        // Command-line arguments, so they take precedence over application.yml
+        return new SpringApplicationBuilder(PricingServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + node,
+                "--spring.jpa.show-sql=false",
+                "--pricing.sharding.enabled=true",
+                "--pricing.sharding.local-node=" + node);
+    }
+
+    private static String urlOf(ConfigurableApplicationContext node) {
+        return "http://localhost:" + ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    private static void updateShardMaps(Map<String, String> nodes, ConfigurableApplicationContext... targets) {
+        for (ConfigurableApplicationContext target : targets) {
+            http.put()
+                    .uri(urlOf(target) + "/admin/shard-map")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("nodes", nodes))
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    private static long brandOwnedBy(String node, List<String> nodes) {
+        return brandOwnedBy(node, nodes, 2);
+    }
+
+    private static long brandOwnedBy(String node, List<String> nodes, long from) {
+        ConsistentHashRing ring = ConsistentHashRing.of(nodes, 128);
+        return LongStream.iterate(from, brandId -> brandId + 1)
+                .filter(brandId -> ring.ownerOf(brandId).equals(node))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void insertPrice(ConfigurableApplicationContext node, long brandId, String amount) {
+        node.getBean(PriceWriter.class).saveAll(List.of(Price.builder()
+                .brandId(brandId)
+                .productId(PRODUCT_ID)
+                .priceList(1L)
+                .priority(0)
+                .startDate(APPLICATION_DATE.minusDays(1))
+                .endDate(APPLICATION_DATE.plusDays(1))
+                .finalPrice(new BigDecimal(amount))
+                .currency("EUR")
+                .build()));
+    }
+
+    private static JsonNode getPrice(ConfigurableApplicationContext node, long brandId) {
+        return http.get()
+                .uri(urlOf(node) + "/prices?applicationDate={date}&productId={productId}&brandId={brandId}",
+                        APPLICATION_DATE, PRODUCT_ID, brandId)
+                .retrieve()
+                .body(JsonNode.class);
+    }
+
+    private static Map<String, Object> item(long brandId) {
+        return Map.of(
+                "applicationDate", APPLICATION_DATE.toString(),
+                "productId", PRODUCT_ID,
+                "brandId", brandId);
+    }
+}